@@ -1,13 +1,15 @@
 import core.GamePanel;
 import core.Lang;
 import java.awt.*;
-import java.io.File;
 import java.io.IOException;
-import javax.imageio.ImageIO;
 import javax.swing.*;
+import util.AssetCache;
+import util.AssetPreloader;
 
 public class Main {
     public static void main(String[] args) {
+        AssetPreloader.start();
+
         JFrame frame = new JFrame(Lang.GAME_TITLE);
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         frame.setUndecorated(true);
@@ -20,7 +22,7 @@ public class Main {
         frame.setLocationRelativeTo(null);
         
         try {
-            Image cursorImage = ImageIO.read(new File(Lang.CURSOR_IMAGE));
+            Image cursorImage = AssetCache.load(Lang.CURSOR_IMAGE);
             Cursor customCursor = Toolkit.getDefaultToolkit().createCustomCursor(cursorImage, new Point(0, 0), "hand");
             frame.setCursor(customCursor);
         } catch (IOException e) {
@@ -2,9 +2,8 @@ package core;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
-import javax.imageio.ImageIO;
+import util.AssetCache;
 
 public class Character {
     private BufferedImage characterImage;
@@ -20,7 +19,7 @@ public class Character {
         this.imagePath = characterImages[(int)(Math.random() * characterImages.length)];
         
         try {
-            characterImage = ImageIO.read(new File(imagePath));
+            characterImage = AssetCache.getScaled(imagePath, width, height);
             Debug.log(Lang.CHARACTER_IMAGE_LOADED + imagePath);
         } catch (IOException e) {
             Debug.error(Lang.CHARACTER_IMAGE_ERROR + e.getMessage());
@@ -34,7 +33,7 @@ public class Character {
         this.imagePath = imagePath;
         
         try {
-            characterImage = ImageIO.read(new File(imagePath));
+            characterImage = AssetCache.getScaled(imagePath, width, height);
             Debug.log(Lang.CHARACTER_IMAGE_LOADED + imagePath);
         } catch (IOException e) {
             Debug.error(Lang.CHARACTER_IMAGE_ERROR + e.getMessage());
@@ -52,10 +51,22 @@ public class Character {
         Debug.log(Lang.CHARACTER_POSITION_SET + position);
     }
     
+    public boolean setDrawPosition(Point drawPosition) {
+        if (position.equals(drawPosition)) {
+            return false;
+        }
+        position = new Point(drawPosition);
+        return true;
+    }
+    
     public Point getPosition() {
         return new Point(position);
     }
     
+    public Rectangle getBounds() {
+        return new Rectangle(position.x - width/2, position.y - height/2, width, height);
+    }
+    
     public void draw(Graphics2D g2d) {
         if (characterImage != null) {
             g2d.drawImage(characterImage, position.x - width/2, position.y - height/2, width, height, null);
@@ -71,7 +82,7 @@ public class Character {
         if (!newImagePath.equals(this.imagePath)) {
             this.imagePath = newImagePath;
             try {
-                characterImage = ImageIO.read(new File(imagePath));
+                characterImage = AssetCache.getScaled(imagePath, width, height);
                 Debug.log(Lang.CHARACTER_IMAGE_UPDATED + imagePath);
             } catch (IOException e) {
                 Debug.error(Lang.CHARACTER_IMAGE_UPDATE_ERROR + e.getMessage());
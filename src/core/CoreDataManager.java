@@ -2,8 +2,11 @@ package core;
 
 import java.awt.Point;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import network.PlayerData;
 
 public class CoreDataManager {
@@ -15,324 +18,426 @@ public class CoreDataManager {
         GAME_ENDED
     }
 
-    private static CoreDataManager instance;
+    private static final class State {
+        final Map<String, PlayerData> players;
+        final List<String> turnOrder;
+        final Map<String, String> displayIds;
+        final String currentTurnPlayer;
+        final int nextPlayerNumber;
+        final GamePhase phase;
+        final boolean gameHasStarted;
+        final String endReason;
+        final long version;
+
+        State(Map<String, PlayerData> players, List<String> turnOrder, Map<String, String> displayIds,
+                String currentTurnPlayer, int nextPlayerNumber, GamePhase phase, boolean gameHasStarted,
+                String endReason, long version) {
+            this.players = players;
+            this.turnOrder = turnOrder;
+            this.displayIds = displayIds;
+            this.currentTurnPlayer = currentTurnPlayer;
+            this.nextPlayerNumber = nextPlayerNumber;
+            this.phase = phase;
+            this.gameHasStarted = gameHasStarted;
+            this.endReason = endReason;
+            this.version = version;
+        }
 
-    private final Map<String, PlayerData> allPlayers = new ConcurrentHashMap<>();
-    private final List<String> playerTurnOrder = new CopyOnWriteArrayList<>();
-    private String currentTurnPlayer = null;
-    private int nextPlayerNumber = 1;
-    private final Map<String, String> playerIdToDisplayId = new ConcurrentHashMap<>();
-    private GamePhase currentPhase = GamePhase.WAITING_FOR_PLAYERS;
+        static State initial(long version) {
+            return new State(Map.of(), List.of(), Map.of(), null, 1, GamePhase.WAITING_FOR_PLAYERS, false, null, version);
+        }
+    }
 
-    private final Object dataLock = new Object();
-    private long lastBroadcastTime = 0;
-    private boolean gameHasStarted = false;
-    private java.util.function.Consumer<String> gameEndCallback;
+    private static final class Draft {
+        private final State base;
+        private Map<String, PlayerData> players;
+        private List<String> turnOrder;
+        private Map<String, String> displayIds;
+        String currentTurnPlayer;
+        int nextPlayerNumber;
+        GamePhase phase;
+        boolean gameHasStarted;
+        String endReason;
+        boolean changed = false;
+        final List<String> endings = new ArrayList<>(0);
+
+        Draft(State base) {
+            this.base = base;
+            this.players = base.players;
+            this.turnOrder = base.turnOrder;
+            this.displayIds = base.displayIds;
+            this.currentTurnPlayer = base.currentTurnPlayer;
+            this.nextPlayerNumber = base.nextPlayerNumber;
+            this.phase = base.phase;
+            this.gameHasStarted = base.gameHasStarted;
+            this.endReason = base.endReason;
+        }
 
-    public static CoreDataManager getInstance() {
-        if (instance == null) {
-            instance = new CoreDataManager();
+        Map<String, PlayerData> players() {
+            return players;
         }
-        return instance;
-    }
 
-    private CoreDataManager() {
-    }
+        List<String> turnOrder() {
+            return turnOrder;
+        }
 
-    public synchronized PlayerData addPlayer(String playerId, String playerName, Point position,
-            String characterImage) {
-        synchronized (dataLock) {
-            if (allPlayers.containsKey(playerId)) {
-                PlayerData existing = allPlayers.get(playerId);
-                existing.updateCharacter(characterImage);
-                return existing;
-            }
+        Map<String, PlayerData> writablePlayers() {
+            changed = true;
+            if (players == base.players) players = new HashMap<>(base.players);
+            return players;
+        }
 
-            String displayId = "P" + nextPlayerNumber;
-            playerIdToDisplayId.put(playerId, displayId);
-            nextPlayerNumber++;
+        List<String> writableTurnOrder() {
+            changed = true;
+            if (turnOrder == base.turnOrder) turnOrder = new ArrayList<>(base.turnOrder);
+            return turnOrder;
+        }
 
-            PlayerData newPlayer = new PlayerData(playerId, playerName, position, characterImage);
-            allPlayers.put(playerId, newPlayer);
-            playerTurnOrder.add(playerId);
-            Collections.sort(playerTurnOrder);
+        Map<String, String> writableDisplayIds() {
+            changed = true;
+            if (displayIds == base.displayIds) displayIds = new HashMap<>(base.displayIds);
+            return displayIds;
+        }
 
-            updateGamePhase();
+        void setTurn(String playerId) {
+            changed |= !Objects.equals(currentTurnPlayer, playerId);
+            currentTurnPlayer = playerId;
+        }
+
+        void setPhase(GamePhase newPhase) {
+            changed |= phase != newPhase;
+            phase = newPhase;
+        }
 
-            if (canStartGame() && currentTurnPlayer == null) {
-                startGame();
+        void nextTurn() {
+            if (turnOrder.isEmpty()) {
+                setTurn(null);
+                return;
             }
 
-            return newPlayer;
+            int currentIndex = turnOrder.indexOf(currentTurnPlayer);
+            if (currentIndex == -1) {
+                setTurn(turnOrder.get(0));
+                return;
+            }
+
+            setTurn(turnOrder.get((currentIndex + 1) % turnOrder.size()));
         }
-    }
 
-    public synchronized void removePlayer(String playerId) {
-        synchronized (dataLock) {
-            PlayerData removed = allPlayers.remove(playerId);
-            playerTurnOrder.remove(playerId);
-            playerIdToDisplayId.remove(playerId);
+        void startGame() {
+            if (turnOrder.size() >= GameConfig.Game.MIN_PLAYERS_TO_START) {
+                setTurn(turnOrder.get(0));
+                setPhase(GamePhase.GAME_RUNNING);
+                changed |= !gameHasStarted;
+                gameHasStarted = true;
+            }
+        }
 
-            if (removed != null) {
-                if (currentTurnPlayer != null && currentTurnPlayer.equals(playerId)) {
-                    nextTurn();
-                }
+        void endGame(String reason) {
+            setPhase(GamePhase.GAME_ENDED);
+            endReason = reason;
+            endings.add(reason);
+            changed = true;
+        }
 
-                if (playerTurnOrder.isEmpty()) {
-                    currentTurnPlayer = null;
-                } else if (currentTurnPlayer == null) {
-                    currentTurnPlayer = playerTurnOrder.get(0);
-                }
+        void removePlayer(String playerId) {
+            if (!players.containsKey(playerId)) return;
+            writablePlayers().remove(playerId);
+            writableTurnOrder().remove(playerId);
+            writableDisplayIds().remove(playerId);
 
-                if (gameHasStarted && playerTurnOrder.size() < GameConfig.Game.MIN_PLAYERS_TO_CONTINUE) {
-                    endGame("Not enough players to continue");
-                }
+            if (currentTurnPlayer != null && currentTurnPlayer.equals(playerId)) {
+                nextTurn();
+            }
 
-                updateGamePhase();
+            if (turnOrder.isEmpty()) {
+                setTurn(null);
+            } else if (currentTurnPlayer == null) {
+                setTurn(turnOrder.get(0));
             }
-        }
-    }
 
-    public synchronized void updatePlayerPosition(String playerId, Point position) {
-        synchronized (dataLock) {
-            PlayerData player = allPlayers.get(playerId);
-            if (player != null) {
-                player.updatePosition(position);
+            if (gameHasStarted && turnOrder.size() < GameConfig.Game.MIN_PLAYERS_TO_CONTINUE) {
+                endGame("Not enough players to continue");
             }
+
+            updateGamePhase();
         }
-    }
 
-    public synchronized void updatePlayerStats(String playerId, int money, int health, int energy) {
-        synchronized (dataLock) {
-            PlayerData player = allPlayers.get(playerId);
-            if (player != null) {
-                player.updateStats(money, health, energy);
+        void updateGamePhase() {
+            int playerCount = turnOrder.size();
+
+            if (playerCount < GameConfig.Game.MIN_PLAYERS_TO_START) {
+                setPhase(GamePhase.WAITING_FOR_PLAYERS);
+            } else if (phase == GamePhase.WAITING_FOR_PLAYERS) {
+                setPhase(GamePhase.GAME_STARTING);
+
+                if (currentTurnPlayer == null) {
+                    nextTurn();
+                }
             }
         }
-    }
 
-    public synchronized void updatePlayerTime(String playerId, int remainingTime) {
-        synchronized (dataLock) {
-            PlayerData player = allPlayers.get(playerId);
-            if (player != null) {
-                player.updateTime(remainingTime);
-            }
+        State publish() {
+            return new State(
+                    players == base.players ? base.players : Collections.unmodifiableMap(players),
+                    turnOrder == base.turnOrder ? base.turnOrder : Collections.unmodifiableList(turnOrder),
+                    displayIds == base.displayIds ? base.displayIds : Collections.unmodifiableMap(displayIds),
+                    currentTurnPlayer, nextPlayerNumber, phase, gameHasStarted, endReason, base.version + 1);
         }
     }
 
-    public synchronized void updatePlayerLocation(String playerId, PlayerState.Location location) {
-        synchronized (dataLock) {
-            PlayerData player = allPlayers.get(playerId);
-            if (player != null) {
-                player.updateLocation(location);
-            }
+    private static CoreDataManager instance;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.initial(0));
+    private final AtomicLong lastBroadcastTime = new AtomicLong(0);
+    private volatile Consumer<String> gameEndCallback;
+
+    public static synchronized CoreDataManager getInstance() {
+        if (instance == null) {
+            instance = new CoreDataManager();
         }
+        return instance;
     }
 
-    public synchronized void startGame() {
-        synchronized (dataLock) {
-            if (playerTurnOrder.size() >= GameConfig.Game.MIN_PLAYERS_TO_START) {
-                currentTurnPlayer = playerTurnOrder.get(0);
-                currentPhase = GamePhase.GAME_RUNNING;
-                gameHasStarted = true;
+    public static CoreDataManager create() {
+        return new CoreDataManager();
+    }
+
+    private CoreDataManager() {
+    }
+
+    private State update(Consumer<Draft> change) {
+        while (true) {
+            State current = state.get();
+            Draft draft = new Draft(current);
+            change.accept(draft);
+            if (!draft.changed) {
+                return current;
+            }
+            State next = draft.publish();
+            if (state.compareAndSet(current, next)) {
+                afterPublish(current, next, draft.endings);
+                return next;
             }
         }
     }
 
-    public synchronized void endGame(String reason) {
-        synchronized (dataLock) {
-            currentPhase = GamePhase.GAME_ENDED;
+    private void afterPublish(State previous, State next, List<String> endings) {
+        if (next.phase == GamePhase.GAME_STARTING && previous.phase != GamePhase.GAME_STARTING) {
+            CompletableFuture.runAsync(() -> update(draft -> {
+                if (draft.phase == GamePhase.GAME_STARTING) {
+                    draft.setPhase(GamePhase.GAME_RUNNING);
+                }
+            }), CompletableFuture.delayedExecutor(GameConfig.Game.GAME_START_DELAY, TimeUnit.MILLISECONDS));
+        }
+
+        for (String reason : endings) {
             Debug.log("🎮 Game ended: " + reason);
 
-            if (gameEndCallback != null) {
-                gameEndCallback.accept(reason);
+            Consumer<String> callback = gameEndCallback;
+            if (callback != null) {
+                callback.accept(reason);
             }
         }
     }
 
-    public synchronized void setGameEndCallback(java.util.function.Consumer<String> callback) {
-        this.gameEndCallback = callback;
-    }
+    public PlayerData addPlayer(String playerId, String playerName, Point position, String characterImage) {
+        State next = update(draft -> {
+            PlayerData existing = draft.players().get(playerId);
+            if (existing != null) {
+                if (characterImage != null && !characterImage.isEmpty() && !characterImage.equals(existing.characterImage)) {
+                    PlayerData updated = existing.copy();
+                    updated.updateCharacter(characterImage);
+                    draft.writablePlayers().put(playerId, updated);
+                }
+                return;
+            }
 
-    private synchronized void updateGamePhase() {
-        synchronized (dataLock) {
-            int playerCount = playerTurnOrder.size();
+            draft.writableDisplayIds().put(playerId, "P" + draft.nextPlayerNumber);
+            draft.nextPlayerNumber++;
 
-            if (playerCount < GameConfig.Game.MIN_PLAYERS_TO_START) {
-                if (currentPhase != GamePhase.WAITING_FOR_PLAYERS) {
-                    currentPhase = GamePhase.WAITING_FOR_PLAYERS;
-                }
-            } else if (currentPhase == GamePhase.WAITING_FOR_PLAYERS) {
-                currentPhase = GamePhase.GAME_STARTING;
+            draft.writablePlayers().put(playerId, new PlayerData(playerId, playerName, position, characterImage));
+            List<String> turnOrder = draft.writableTurnOrder();
+            turnOrder.add(playerId);
+            Collections.sort(turnOrder);
 
-                if (currentTurnPlayer == null) {
-                    nextTurn();
-                }
+            draft.updateGamePhase();
 
-                new Thread(() -> {
-                    try {
-                        Thread.sleep(GameConfig.Game.GAME_START_DELAY);
-                        synchronized (dataLock) {
-                            if (currentPhase == GamePhase.GAME_STARTING) {
-                                currentPhase = GamePhase.GAME_RUNNING;
-                            }
-                        }
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                }).start();
+            if (turnOrder.size() >= GameConfig.Game.MIN_PLAYERS_TO_START && draft.currentTurnPlayer == null) {
+                draft.startGame();
             }
-        }
+        });
+        return next.players.get(playerId);
     }
 
-    public synchronized boolean canStartGame() {
-        synchronized (dataLock) {
-            return playerTurnOrder.size() >= GameConfig.Game.MIN_PLAYERS_TO_START;
-        }
+    public void removePlayer(String playerId) {
+        update(draft -> draft.removePlayer(playerId));
     }
 
-    public synchronized void forceSetTurn(String playerId) {
-        synchronized (dataLock) {
-            if (playerTurnOrder.contains(playerId)) {
-                currentTurnPlayer = playerId;
+    public PlayerData updatePlayer(String playerId, Consumer<PlayerData> mutator) {
+        State next = update(draft -> {
+            PlayerData player = draft.players().get(playerId);
+            if (player != null) {
+                PlayerData updated = player.copy();
+                mutator.accept(updated);
+                draft.writablePlayers().put(playerId, updated);
             }
-        }
+        });
+        return next.players.get(playerId);
     }
 
-    public synchronized void nextTurn() {
-        synchronized (dataLock) {
-            if (playerTurnOrder.isEmpty()) {
-                currentTurnPlayer = null;
-                return;
-            }
+    public void updatePlayerPosition(String playerId, Point position) {
+        updatePlayer(playerId, player -> player.updatePosition(position));
+    }
 
-            int currentIndex = playerTurnOrder.indexOf(currentTurnPlayer);
-            if (currentIndex == -1) {
-                currentTurnPlayer = playerTurnOrder.get(0);
-                return;
+    public void updatePlayerStats(String playerId, int money, int health, int energy) {
+        updatePlayer(playerId, player -> player.updateStats(money, health, energy));
+    }
+
+    public void updatePlayerTime(String playerId, int remainingTime) {
+        updatePlayer(playerId, player -> player.updateTime(remainingTime));
+    }
+
+    public void updatePlayerLocation(String playerId, PlayerState.Location location) {
+        updatePlayer(playerId, player -> player.updateLocation(location));
+    }
+
+    public void startGame() {
+        update(Draft::startGame);
+    }
+
+    public void endGame(String reason) {
+        update(draft -> draft.endGame(reason));
+    }
+
+    public void setGameEndCallback(Consumer<String> callback) {
+        this.gameEndCallback = callback;
+    }
+
+    public boolean canStartGame() {
+        return state.get().turnOrder.size() >= GameConfig.Game.MIN_PLAYERS_TO_START;
+    }
+
+    public void forceSetTurn(String playerId) {
+        update(draft -> {
+            if (draft.turnOrder().contains(playerId)) {
+                draft.setTurn(playerId);
             }
+        });
+    }
 
-            int nextIndex = (currentIndex + 1) % playerTurnOrder.size();
-            currentTurnPlayer = playerTurnOrder.get(nextIndex);
-        }
+    public void nextTurn() {
+        update(Draft::nextTurn);
     }
 
-    public synchronized void completeTurn(String playerId) {
-        synchronized (dataLock) {
-            if (currentTurnPlayer != null && currentTurnPlayer.equals(playerId)) {
-                nextTurn();
+    public void completeTurn(String playerId) {
+        update(draft -> {
+            if (draft.currentTurnPlayer != null && draft.currentTurnPlayer.equals(playerId)) {
+                draft.nextTurn();
             }
-        }
+        });
     }
 
-    public synchronized void cleanupStaleConnections() {
-        synchronized (dataLock) {
-            long now = System.currentTimeMillis();
+    public void cleanupStaleConnections() {
+        long now = System.currentTimeMillis();
+        update(draft -> {
             List<String> toRemove = new ArrayList<>();
-
-            for (Map.Entry<String, PlayerData> entry : allPlayers.entrySet()) {
+            for (Map.Entry<String, PlayerData> entry : draft.players().entrySet()) {
                 if (now - entry.getValue().timestamp > GameConfig.Network.CONNECTION_TIMEOUT) {
                     toRemove.add(entry.getKey());
                 }
             }
 
             for (String playerId : toRemove) {
-                removePlayer(playerId);
+                draft.removePlayer(playerId);
             }
-        }
+        });
     }
 
-    public synchronized PlayerData getPlayer(String playerId) {
-        synchronized (dataLock) {
-            return allPlayers.get(playerId);
-        }
+    public PlayerData getPlayer(String playerId) {
+        return state.get().players.get(playerId);
     }
 
-    public synchronized Map<String, PlayerData> getAllPlayers() {
-        synchronized (dataLock) {
-            return new ConcurrentHashMap<>(allPlayers);
-        }
+    public List<PlayerData> snapshotPlayers() {
+        return new ArrayList<>(state.get().players.values());
     }
 
-    public synchronized String getCurrentTurnPlayer() {
-        synchronized (dataLock) {
-            return currentTurnPlayer;
+    public List<PlayerData> snapshotPlayers(Collection<String> playerIds) {
+        Map<String, PlayerData> players = state.get().players;
+        List<PlayerData> snapshot = new ArrayList<>(playerIds.size());
+        for (String playerId : playerIds) {
+            PlayerData player = players.get(playerId);
+            if (player != null) {
+                snapshot.add(player);
+            }
         }
+        return snapshot;
     }
 
-    public synchronized boolean isPlayerTurn(String playerId) {
-        synchronized (dataLock) {
-            return currentTurnPlayer != null && currentTurnPlayer.equals(playerId);
-        }
+    public Map<String, PlayerData> getAllPlayers() {
+        return state.get().players;
     }
 
-    public synchronized String getPlayerDisplayId(String playerId) {
-        synchronized (dataLock) {
-            return playerIdToDisplayId.get(playerId);
-        }
+    public long getVersion() {
+        return state.get().version;
     }
 
-    public synchronized int getPlayerCount() {
-        synchronized (dataLock) {
-            return allPlayers.size();
-        }
+    public String getCurrentTurnPlayer() {
+        return state.get().currentTurnPlayer;
     }
 
-    public synchronized List<String> getPlayerTurnOrder() {
-        synchronized (dataLock) {
-            return new ArrayList<>(playerTurnOrder);
-        }
+    public boolean isPlayerTurn(String playerId) {
+        String currentTurnPlayer = state.get().currentTurnPlayer;
+        return currentTurnPlayer != null && currentTurnPlayer.equals(playerId);
+    }
+
+    public String getPlayerDisplayId(String playerId) {
+        return state.get().displayIds.get(playerId);
+    }
+
+    public int getPlayerCount() {
+        return state.get().players.size();
+    }
+
+    public List<String> getPlayerTurnOrder() {
+        return state.get().turnOrder;
     }
 
-    public synchronized boolean shouldBroadcast() {
+    public boolean shouldBroadcast() {
         long currentTime = System.currentTimeMillis();
-        if (currentTime - lastBroadcastTime >= GameConfig.Network.BROADCAST_INTERVAL) {
-            lastBroadcastTime = currentTime;
-            return true;
-        }
-        return false;
+        long last = lastBroadcastTime.get();
+        return currentTime - last >= GameConfig.Network.BROADCAST_INTERVAL
+                && lastBroadcastTime.compareAndSet(last, currentTime);
     }
 
-    public synchronized GamePhase getCurrentPhase() {
-        synchronized (dataLock) {
-            return currentPhase;
-        }
+    public GamePhase getCurrentPhase() {
+        return state.get().phase;
     }
 
-    public synchronized boolean isWaitingForPlayers() {
-        synchronized (dataLock) {
-            return currentPhase == GamePhase.WAITING_FOR_PLAYERS;
-        }
+    public boolean isWaitingForPlayers() {
+        return state.get().phase == GamePhase.WAITING_FOR_PLAYERS;
     }
 
-    public synchronized boolean isGameReady() {
-        synchronized (dataLock) {
-            return currentPhase == GamePhase.GAME_RUNNING &&
-                    playerTurnOrder.size() >= GameConfig.Game.MIN_PLAYERS_TO_START;
-        }
+    public boolean isGameReady() {
+        State current = state.get();
+        return current.phase == GamePhase.GAME_RUNNING &&
+                current.turnOrder.size() >= GameConfig.Game.MIN_PLAYERS_TO_START;
     }
 
-    public synchronized void reset() {
-        synchronized (dataLock) {
-            allPlayers.clear();
-            playerTurnOrder.clear();
-            playerIdToDisplayId.clear();
-            currentTurnPlayer = null;
-            nextPlayerNumber = 1;
-            currentPhase = GamePhase.WAITING_FOR_PLAYERS;
-            gameHasStarted = false;
+    public void reset() {
+        while (true) {
+            State current = state.get();
+            if (state.compareAndSet(current, State.initial(current.version + 1))) {
+                return;
+            }
         }
     }
 
-    public synchronized boolean hasGameStarted() {
-        synchronized (dataLock) {
-            return gameHasStarted;
-        }
+    public boolean hasGameStarted() {
+        return state.get().gameHasStarted;
     }
 
-    public synchronized boolean isGameEnded() {
-        synchronized (dataLock) {
-            return currentPhase == GamePhase.GAME_ENDED;
-        }
+    public boolean isGameEnded() {
+        return state.get().phase == GamePhase.GAME_ENDED;
     }
 }
@@ -1,80 +1,190 @@
 package core;
 
 import java.io.*;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 
 public class Debug {
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
+
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    private static final DateTimeFormatter FILE_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss").withZone(ZoneId.systemDefault());
+
     private static boolean enabled = GameConfig.Debug.ENABLED;
-    private static boolean fileLoggingEnabled = GameConfig.Debug.FILE_LOGGING_ENABLED;
+    private static volatile boolean fileLoggingEnabled = GameConfig.Debug.FILE_LOGGING_ENABLED;
     private static String logDirectory = GameConfig.Debug.LOG_DIRECTORY;
     private static Map<String, PrintWriter> playerLogWriters = new ConcurrentHashMap<>();
     private static PrintWriter generalLogWriter;
-    private static SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+    private static final Object writerLock = new Object();
 
-    private static ExecutorService loggingExecutor = Executors.newSingleThreadExecutor(r -> {
-        Thread thread = new Thread(r, "Debug-Logger-Thread");
-        thread.setDaemon(true);
-        thread.setPriority(GameConfig.Debug.LOGGING_THREAD_PRIORITY);
-        return thread;
-    });
+    private static final Object bufferLock = new Object();
+    private static final int capacity = GameConfig.Debug.LOG_BUFFER_CAPACITY;
+    private static final long[] times = new long[capacity];
+    private static final String[] categories = new String[capacity];
+    private static final String[] messages = new String[capacity];
+    private static final boolean[] errors = new boolean[capacity];
+    private static final Throwable[] throwables = new Throwable[capacity];
+    private static long head = 0;
+    private static long tail = 0;
+    private static long dropped = 0;
+    private static volatile boolean running = true;
 
-    private static BlockingQueue<LogTask> logQueue = new LinkedBlockingQueue<>();
+    private static final Thread loggingThread = new Thread(Debug::runWriter, "Debug-Logger-Thread");
 
     static {
         initializeLogging();
-        startLoggingThread();
+        loggingThread.setDaemon(true);
+        loggingThread.setPriority(GameConfig.Debug.LOGGING_THREAD_PRIORITY);
+        loggingThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Debug::cleanup, "Debug-Logger-Shutdown"));
     }
 
-    private static void startLoggingThread() {
-        loggingExecutor.submit(() -> {
-            while (!Thread.currentThread().isInterrupted()) {
-                try {
-                    LogTask task = logQueue.take();
-                    task.execute();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
-                } catch (Exception e) {
-                    System.err.println("Error in logging thread: " + e.getMessage());
+    private static void runWriter() {
+        Batch batch = new Batch(capacity);
+        boolean interrupted = false;
+        while (true) {
+            long droppedRecords;
+            synchronized (bufferLock) {
+                long deadline = System.currentTimeMillis() + GameConfig.Debug.LOG_FLUSH_INTERVAL;
+                while (running && tail - head < GameConfig.Debug.LOG_BATCH_SIZE) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) break;
+                    try {
+                        bufferLock.wait(remaining);
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                        break;
+                    }
                 }
+                if (head == tail && dropped == 0) {
+                    if (!running) {
+                        if (interrupted) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return;
+                    }
+                    continue;
+                }
+                batch.drain();
+                droppedRecords = dropped;
+                dropped = 0;
+                bufferLock.notifyAll();
             }
-        });
+
+            try {
+                batch.write(droppedRecords);
+            } catch (Exception e) {
+                System.err.println("Error in logging thread: " + e.getMessage());
+            }
+        }
     }
 
-    private static class LogTask {
-        private final String category;
-        private final String message;
-        private final boolean isConsole;
-        private final boolean isError;
-        private final Throwable throwable;
-
-        LogTask(String category, String message, boolean isConsole, boolean isError, Throwable throwable) {
-            this.category = category;
-            this.message = message;
-            this.isConsole = isConsole;
-            this.isError = isError;
-            this.throwable = throwable;
+    private static class Batch {
+        private final long[] times;
+        private final String[] categories;
+        private final String[] messages;
+        private final boolean[] errors;
+        private final Throwable[] throwables;
+        private final List<PrintWriter> touched = new ArrayList<>();
+        private final StringBuilder out = new StringBuilder();
+        private final StringBuilder err = new StringBuilder();
+        private int size = 0;
+
+        Batch(int capacity) {
+            this.times = new long[capacity];
+            this.categories = new String[capacity];
+            this.messages = new String[capacity];
+            this.errors = new boolean[capacity];
+            this.throwables = new Throwable[capacity];
         }
 
-        void execute() {
-            if (isConsole) {
-                if (isError) {
-                    System.err.println(message);
-                } else {
-                    System.out.println(message);
+        void drain() {
+            size = 0;
+            for (; head < tail; head++) {
+                int index = (int) (head % capacity);
+                times[size] = Debug.times[index];
+                categories[size] = Debug.categories[index];
+                messages[size] = Debug.messages[index];
+                errors[size] = Debug.errors[index];
+                throwables[size] = Debug.throwables[index];
+                Debug.categories[index] = null;
+                Debug.messages[index] = null;
+                Debug.throwables[index] = null;
+                size++;
+            }
+        }
+
+        void write(long droppedRecords) {
+            if (droppedRecords > 0) {
+                String notice = "[WARNING] Dropped " + droppedRecords + " log record(s): buffer full";
+                err.append(notice).append('\n');
+                append("GENERAL", System.currentTimeMillis(), notice, null);
+            }
+
+            for (int i = 0; i < size; i++) {
+                StringBuilder console = errors[i] ? err : out;
+                console.append(messages[i]).append('\n');
+                String trace = throwables[i] != null ? stackTrace(throwables[i]) : null;
+                if (trace != null) {
+                    err.append(trace);
+                }
+                append(categories[i], times[i], messages[i], trace);
+                categories[i] = null;
+                messages[i] = null;
+                throwables[i] = null;
+            }
+            size = 0;
+
+            if (out.length() > 0) {
+                System.out.print(out);
+                System.out.flush();
+                out.setLength(0);
+            }
+            if (err.length() > 0) {
+                System.err.print(err);
+                System.err.flush();
+                err.setLength(0);
+            }
+            synchronized (writerLock) {
+                for (PrintWriter writer : touched) {
+                    writer.flush();
                 }
-                if (throwable != null) {
-                    throwable.printStackTrace();
+            }
+            touched.clear();
+        }
+
+        private void append(String category, long time, String message, String trace) {
+            if (!fileLoggingEnabled) return;
+            synchronized (writerLock) {
+                PrintWriter writer = "GENERAL".equals(category) ? generalLogWriter : getPlayerLogWriter(category);
+                if (writer == null) return;
+                writer.print('[');
+                writer.print(TIME_FORMAT.format(Instant.ofEpochMilli(time)));
+                writer.print("] ");
+                writer.println(message);
+                if (trace != null) {
+                    writer.print(trace);
+                }
+                if (!touched.contains(writer)) {
+                    touched.add(writer);
                 }
             }
-            writeToFileSync(category, message, throwable);
+        }
+
+        private static String stackTrace(Throwable throwable) {
+            StringWriter sw = new StringWriter();
+            throwable.printStackTrace(new PrintWriter(sw));
+            return sw.toString();
         }
     }
     
@@ -87,9 +197,11 @@ public class Debug {
                 logDir.mkdirs();
             }
             
-            String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+            String timestamp = FILE_TIME_FORMAT.format(Instant.now());
             String generalLogFile = logDirectory + File.separator + "general_" + timestamp + ".log";
-            generalLogWriter = new PrintWriter(new FileWriter(generalLogFile, true));
+            synchronized (writerLock) {
+                generalLogWriter = new PrintWriter(new BufferedWriter(new FileWriter(generalLogFile, true)));
+            }
             
             log("Debug logging initialized. General log: " + generalLogFile);
         } catch (IOException e) {
@@ -128,120 +240,116 @@ public class Debug {
     public static void log(String message) {
         if (enabled) {
             String formattedMessage = "[DEBUG] " + message;
-            enqueueLog("GENERAL", formattedMessage, true, false, null);
+            enqueueLog("GENERAL", formattedMessage, false, null);
         }
     }
 
     public static void log(String message, Throwable throwable) {
         if (enabled) {
             String formattedMessage = "[DEBUG] " + message;
-            enqueueLog("GENERAL", formattedMessage, true, false, throwable);
+            enqueueLog("GENERAL", formattedMessage, false, throwable);
         }
     }
 
     public static void logPlayer(String playerId, String message) {
         if (enabled) {
             String formattedMessage = "[PLAYER-" + playerId + "] " + message;
-            enqueueLog(playerId, formattedMessage, true, false, null);
+            enqueueLog(playerId, formattedMessage, false, null);
         }
     }
 
     public static void logServer(String message) {
         if (enabled) {
             String formattedMessage = "[SERVER] " + message;
-            enqueueLog("SERVER", formattedMessage, true, false, null);
+            enqueueLog("SERVER", formattedMessage, false, null);
         }
     }
 
     public static void logClient(String message) {
         if (enabled) {
             String formattedMessage = "[CLIENT] " + message;
-            enqueueLog("CLIENT", formattedMessage, true, false, null);
+            enqueueLog("CLIENT", formattedMessage, false, null);
         }
     }
 
     public static void logGameState(String message) {
         if (enabled) {
             String formattedMessage = "[GAME_STATE] " + message;
-            enqueueLog("GAME_STATE", formattedMessage, true, false, null);
+            enqueueLog("GAME_STATE", formattedMessage, false, null);
         }
     }
 
     public static void logNetwork(String message) {
         if (enabled) {
             String formattedMessage = "[NETWORK] " + message;
-            enqueueLog("NETWORK", formattedMessage, true, false, null);
+            enqueueLog("NETWORK", formattedMessage, false, null);
         }
     }
 
     public static void logTurn(String message) {
         if (enabled) {
             String formattedMessage = "[TURN] " + message;
-            enqueueLog("TURN", formattedMessage, true, false, null);
+            enqueueLog("TURN", formattedMessage, false, null);
         }
     }
 
     public static void error(String message) {
         String formattedMessage = "[ERROR] " + message;
-        enqueueLog("ERROR", formattedMessage, true, true, null);
+        enqueueLog("ERROR", formattedMessage, true, null);
     }
 
     public static void error(String message, Throwable throwable) {
         String formattedMessage = "[ERROR] " + message;
-        enqueueLog("ERROR", formattedMessage, true, true, throwable);
+        enqueueLog("ERROR", formattedMessage, true, throwable);
     }
 
     public static void errorPlayer(String playerId, String message) {
         String formattedMessage = "[ERROR-PLAYER-" + playerId + "] " + message;
-        enqueueLog(playerId, formattedMessage, true, true, null);
+        enqueueLog(playerId, formattedMessage, true, null);
     }
 
     public static void info(String message) {
         String formattedMessage = "[INFO] " + message;
-        enqueueLog("GENERAL", formattedMessage, true, false, null);
+        enqueueLog("GENERAL", formattedMessage, false, null);
     }
 
     public static void warning(String message) {
         String formattedMessage = "[WARNING] " + message;
-        enqueueLog("GENERAL", formattedMessage, true, false, null);
+        enqueueLog("GENERAL", formattedMessage, false, null);
     }
 
-    private static void enqueueLog(String category, String message, boolean isConsole, boolean isError, Throwable throwable) {
-        try {
-            logQueue.offer(new LogTask(category, message, isConsole, isError, throwable));
-        } catch (Exception e) {
-            System.err.println("Failed to enqueue log: " + e.getMessage());
-        }
-    }
-    
-    private static void writeToFileSync(String category, String message, Throwable throwable) {
-        if (!fileLoggingEnabled) return;
-
-        try {
-            String timestamp = dateFormat.format(new Date());
-            String logEntry = "[" + timestamp + "] " + message;
-
-            if (throwable != null) {
-                StringWriter sw = new StringWriter();
-                PrintWriter pw = new PrintWriter(sw);
-                throwable.printStackTrace(pw);
-                logEntry += "\n" + sw.toString();
-            }
-
-            if ("GENERAL".equals(category)) {
-                if (generalLogWriter != null) {
-                    generalLogWriter.println(logEntry);
-                    generalLogWriter.flush();
+    private static void enqueueLog(String category, String message, boolean isError, Throwable throwable) {
+        synchronized (bufferLock) {
+            while (tail - head >= capacity) {
+                if (!running || (!isError && GameConfig.Debug.LOG_OVERFLOW_POLICY == OverflowPolicy.DROP)) {
+                    dropped++;
+                    return;
                 }
-            } else {
-                PrintWriter writer = getPlayerLogWriter(category);
-                if (writer != null) {
-                    writer.println(logEntry);
-                    writer.flush();
+                try {
+                    bufferLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped++;
+                    return;
                 }
             }
-        } catch (Exception e) {
-            System.err.println("Failed to write to log file: " + e.getMessage());
+
+            int index = (int) (tail % capacity);
+            times[index] = System.currentTimeMillis();
+            categories[index] = category;
+            messages[index] = message;
+            errors[index] = isError;
+            throwables[index] = throwable;
+            tail++;
+            if (tail - head >= GameConfig.Debug.LOG_BATCH_SIZE) {
+                bufferLock.notifyAll();
+            }
+        }
+    }
+
+    public static long getDroppedRecords() {
+        synchronized (bufferLock) {
+            return dropped;
         }
     }
     
@@ -250,9 +358,9 @@ public class Debug {
         
         return playerLogWriters.computeIfAbsent(playerId, id -> {
             try {
-                String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+                String timestamp = FILE_TIME_FORMAT.format(Instant.now());
                 String logFile = logDirectory + File.separator + "player_" + id + "_" + timestamp + ".log";
-                return new PrintWriter(new FileWriter(logFile, true));
+                return new PrintWriter(new BufferedWriter(new FileWriter(logFile, true)));
             } catch (IOException e) {
                 System.err.println("Failed to create player log file for " + id + ": " + e.getMessage());
                 return null;
@@ -261,27 +369,31 @@ public class Debug {
     }
     
     private static void closeAllWriters() {
-        if (generalLogWriter != null) {
-            generalLogWriter.close();
-            generalLogWriter = null;
-        }
-        
-        for (PrintWriter writer : playerLogWriters.values()) {
-            if (writer != null) {
-                writer.close();
+        synchronized (writerLock) {
+            if (generalLogWriter != null) {
+                generalLogWriter.close();
+                generalLogWriter = null;
             }
+
+            for (PrintWriter writer : playerLogWriters.values()) {
+                if (writer != null) {
+                    writer.close();
+                }
+            }
+            playerLogWriters.clear();
         }
-        playerLogWriters.clear();
     }
     
     public static void cleanup() {
+        synchronized (bufferLock) {
+            running = false;
+            bufferLock.notifyAll();
+        }
         try {
-            loggingExecutor.shutdown();
-            if (!loggingExecutor.awaitTermination(GameConfig.Debug.SHUTDOWN_TIMEOUT_SECONDS, java.util.concurrent.TimeUnit.SECONDS)) {
-                loggingExecutor.shutdownNow();
+            if (Thread.currentThread() != loggingThread) {
+                loggingThread.join(GameConfig.Debug.SHUTDOWN_TIMEOUT_SECONDS * 1000L);
             }
         } catch (InterruptedException e) {
-            loggingExecutor.shutdownNow();
             Thread.currentThread().interrupt();
         }
         closeAllWriters();
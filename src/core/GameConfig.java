@@ -12,6 +12,9 @@ public class GameConfig {
         public static final double UI_SCALE = 0.3;
         public static final int UI_OFFSET_Y = 50;
         public static final double HOVER_SCALE = 1.05;
+        public static final int TARGET_FPS = 60;
+        public static final String ASSET_ROOT = "assets";
+        public static final long ASSET_CACHE_MAX_BYTES = 64L * 1024 * 1024;
     }
 
     public static class Map {
@@ -84,6 +87,9 @@ public class GameConfig {
             new Point(754, 250),
             new Point(772, 249)
         );
+
+        public static final List<int[]> ROAD_JUNCTIONS = List.of();
+        public static final int SPATIAL_CELL_SIZE = 64;
     }
 
     public static class Character {
@@ -106,13 +112,46 @@ public class GameConfig {
         public static final int CONNECTION_TIMEOUT = 15000;
         public static final int RETRY_ATTEMPTS = 3;
         public static final int RETRY_DELAY = 500;
+        public static final int RECONNECT_MAX_DELAY = 8000;
+        public static final long SESSION_GRACE_PERIOD = 30000;
+        public static final long CONNECT_POLL_INTERVAL = 100;
+        public static final int CONNECT_POLL_ATTEMPTS = 50;
+        public static final long CLIENT_POLL_INTERVAL = 100;
+        public static final long PLAYER_COUNT_CHECK_INTERVAL = 500;
+        public static final long TIME_CHECK_INTERVAL = 1000;
         public static final long BROADCAST_INTERVAL = 100;
+        public static final int SNAPSHOT_HISTORY_SIZE = 32;
+        public static final long INTERPOLATION_DELAY = 2 * BROADCAST_INTERVAL;
+        public static final long MAX_EXTRAPOLATION = BROADCAST_INTERVAL;
+        public static final int INTERPOLATION_BUFFER_SIZE = 16;
+        public static final int INTERPOLATION_SNAP_DISTANCE = 200;
+        public static final long CLEANUP_INTERVAL = 5000;
+        public static final long DEADLINE_WHEEL_TICK = 250;
+        public static final int DEADLINE_WHEEL_SLOTS = 128;
+        public static final int SERVER_LOG_CAPACITY = 2000;
+        public static final int SERVER_LOG_MAX_LINES = 1000;
+        public static final int SERVER_LOG_REFRESH_INTERVAL = 100;
+        public static final int ROOM_SHARDS = 4;
+        public static final int ACCEPT_BACKLOG = 1024;
+        public static final int READ_BUFFER_SIZE = 16 * 1024;
+        public static final int MAX_FRAME_SIZE = 1024 * 1024;
+        public static final int LEGACY_STREAM_BACKLOG = 4 * MAX_FRAME_SIZE;
+        public static final int OUTBOUND_QUEUE_CAPACITY = 256;
+        public static final int MAX_GATHER_FRAMES = 64;
+        public static final long CLIENT_FLUSH_INTERVAL = 16;
+        public static final boolean CLIENT_TCP_NO_DELAY = true;
+        public static final network.OutboundQueue.OverflowPolicy OUTBOUND_OVERFLOW_POLICY =
+                network.OutboundQueue.OverflowPolicy.COALESCE;
+        public static final util.ThreadFactories.Mode THREAD_MODE = util.ThreadFactories.Mode.PLATFORM;
     }
 
     public static class Game {
         public static final int MIN_PLAYERS_TO_START = 3;
         public static final int MIN_PLAYERS_TO_CONTINUE = 2;
+        public static final int MAX_PLAYERS_PER_ROOM = 4;
         public static final int MOVEMENT_TIMER_INTERVAL = 8;
+        public static final int TICK_RATE = 1000 / MOVEMENT_TIMER_INTERVAL;
+        public static final int MAX_CATCH_UP_TICKS = 10;
         public static final int TURN_TIME_HOURS = 24;
         public static final int TIME_PER_MOVEMENT = 10;
         public static final int TIME_DISPLAY_FONT_SIZE = 20;
@@ -154,6 +193,7 @@ public class GameConfig {
 
     public static class Sound {
         public static final long MIN_PLAY_INTERVAL = 100;
+        public static final int CLIP_POOL_SIZE = 4;
     }
 
     public static class UI {
@@ -163,8 +203,13 @@ public class GameConfig {
     public static class Debug {
         public static boolean ENABLED = true;
         public static boolean FILE_LOGGING_ENABLED = true;
+        public static boolean SHOW_FRAME_STATS = false;
         public static String LOG_DIRECTORY = "logs";
         public static int LOGGING_THREAD_PRIORITY = Thread.MIN_PRIORITY;
         public static int SHUTDOWN_TIMEOUT_SECONDS = 5;
+        public static int LOG_BUFFER_CAPACITY = 8192;
+        public static int LOG_BATCH_SIZE = 256;
+        public static long LOG_FLUSH_INTERVAL = 50;
+        public static core.Debug.OverflowPolicy LOG_OVERFLOW_POLICY = core.Debug.OverflowPolicy.DROP;
     }
 }
@@ -0,0 +1,139 @@
+package core;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import javax.swing.SwingUtilities;
+import util.ThreadFactories;
+
+public class GameLoop {
+    public interface Game {
+        void update(long tick);
+
+        void render();
+    }
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Game game;
+    private final int tickRate;
+    private final long tickNanos;
+    private final long frameNanos;
+    private final AtomicBoolean framePending = new AtomicBoolean(false);
+    private volatile boolean running = false;
+    private volatile int generation = 0;
+    private Thread thread;
+    private long tick = 0;
+
+    private long statsWindowStart = 0;
+    private int statsFrames = 0;
+    private int statsUpdates = 0;
+    private long statsUpdateNanos = 0;
+    private long statsRenderNanos = 0;
+    private long statsMaxFrameNanos = 0;
+    private volatile String stats = "";
+
+    public GameLoop(Game game, int tickRate, int targetFps) {
+        this.game = game;
+        this.tickRate = tickRate;
+        this.tickNanos = NANOS_PER_SECOND / tickRate;
+        this.frameNanos = NANOS_PER_SECOND / targetFps;
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        int current = ++generation;
+        thread = ThreadFactories.named(ThreadFactories.Mode.PLATFORM, "Game-Loop").newThread(() -> run(current));
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isDue(long tick, long intervalMillis) {
+        long ticks = Math.max(1, Math.round(intervalMillis * tickRate / 1000.0));
+        return tick % ticks == 0;
+    }
+
+    public String getStats() {
+        return stats;
+    }
+
+    private void run(int generation) {
+        long previous = System.nanoTime();
+        long accumulator = 0;
+
+        while (running && generation == this.generation) {
+            long frameStart = System.nanoTime();
+            accumulator += frameStart - previous;
+            previous = frameStart;
+
+            if (framePending.compareAndSet(false, true)) {
+                int ticks = (int) Math.min(accumulator / tickNanos, GameConfig.Game.MAX_CATCH_UP_TICKS);
+                accumulator = ticks == GameConfig.Game.MAX_CATCH_UP_TICKS ? 0 : accumulator - ticks * tickNanos;
+                SwingUtilities.invokeLater(() -> runFrame(ticks));
+            }
+
+            long sleep = frameStart + frameNanos - System.nanoTime();
+            if (sleep > 0) {
+                LockSupport.parkNanos(sleep);
+            }
+        }
+    }
+
+    private void runFrame(int ticks) {
+        try {
+            long updateStart = System.nanoTime();
+            for (int i = 0; i < ticks && running; i++) {
+                game.update(tick++);
+            }
+            long renderStart = System.nanoTime();
+            if (running) {
+                game.render();
+            }
+            long frameEnd = System.nanoTime();
+            recordFrame(ticks, renderStart - updateStart, frameEnd - renderStart, frameEnd);
+        } catch (RuntimeException e) {
+            Debug.error("Game loop error: " + e.getMessage());
+        } finally {
+            framePending.set(false);
+        }
+    }
+
+    private void recordFrame(int ticks, long updateNanos, long renderNanos, long now) {
+        if (statsWindowStart == 0) {
+            statsWindowStart = now;
+        }
+        statsFrames++;
+        statsUpdates += ticks;
+        statsUpdateNanos += updateNanos;
+        statsRenderNanos += renderNanos;
+        statsMaxFrameNanos = Math.max(statsMaxFrameNanos, updateNanos + renderNanos);
+
+        long elapsed = now - statsWindowStart;
+        if (elapsed >= NANOS_PER_SECOND) {
+            stats = String.format("FPS %d | UPS %d | update %.2fms | render %.2fms | worst %.2fms",
+                    Math.round(statsFrames * (double) NANOS_PER_SECOND / elapsed),
+                    Math.round(statsUpdates * (double) NANOS_PER_SECOND / elapsed),
+                    statsUpdates > 0 ? statsUpdateNanos / 1e6 / statsUpdates : 0.0,
+                    statsRenderNanos / 1e6 / statsFrames,
+                    statsMaxFrameNanos / 1e6);
+            statsWindowStart = now;
+            statsFrames = 0;
+            statsUpdates = 0;
+            statsUpdateNanos = 0;
+            statsRenderNanos = 0;
+            statsMaxFrameNanos = 0;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package core;
 
 import java.awt.*;
-import javax.swing.*;
+import util.AssetCache;
 
 public class GameObject {
     public String file;
@@ -19,7 +19,7 @@ public class GameObject {
         this.w = w;
         this.h = h;
         this.rotation = rotation;
-        this.img = new ImageIcon(file).getImage();
+        this.img = AssetCache.get(file);
     }
 
     public GameObject(String file, String hoverFile, String name, int x, int y, int w, int h, int rotation) {
@@ -30,8 +30,8 @@ public class GameObject {
         this.w = w;
         this.h = h;
         this.rotation = rotation;
-        this.img = new ImageIcon(file).getImage();
-        this.hoverImg = new ImageIcon(hoverFile).getImage();
+        this.img = AssetCache.get(file);
+        this.hoverImg = AssetCache.get(hoverFile);
     }
 
     public void draw(Graphics2D g2) {
@@ -50,7 +50,18 @@ public class GameObject {
         g2.rotate(-Math.toRadians(rotation), cx, cy);
     }
 
+    public Rectangle getDrawBounds() {
+        int drawW = (int) Math.ceil(w * GameConfig.Display.HOVER_SCALE);
+        int drawH = (int) Math.ceil(h * GameConfig.Display.HOVER_SCALE);
+        Rectangle scaled = new Rectangle(x - (drawW - w) / 2, y - (drawH - h) / 2, drawW, drawH);
+        Shape rotated = java.awt.geom.AffineTransform.getRotateInstance(
+                Math.toRadians(rotation), scaled.getCenterX(), scaled.getCenterY()).createTransformedShape(scaled);
+        Rectangle bounds = rotated.getBounds();
+        bounds.grow(2, 2);
+        return bounds;
+    }
+
     public boolean contains(Point p) {
-        return new Rectangle(x, y, w, h).contains(p);
+        return p.x >= x && p.y >= y && p.x < x + w && p.y < y + h;
     }
 }
@@ -1,15 +1,19 @@
 package core;
 
+import java.awt.Point;
+import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import util.SpatialGrid;
 
 public class GameObjectFactory {
     private static GameObjectFactory instance;
     private final Map<GameObjectType, GameObject> objectMap;
     private final Map<PlayerState.Location, GameObjectType> locationToTypeMap;
     private final List<GameObject> allObjects;
+    private final SpatialGrid<GameObject> objectIndex = new SpatialGrid<>(GameConfig.Map.SPATIAL_CELL_SIZE);
 
     private GameObjectFactory() {
         this.objectMap = new HashMap<>();
@@ -52,6 +56,7 @@ public class GameObjectFactory {
 
             objectMap.put(type, obj);
             allObjects.add(obj);
+            objectIndex.insert(obj, new Rectangle(obj.x, obj.y, obj.w, obj.h));
 
             if (type.getLocation() != null) {
                 locationToTypeMap.put(type.getLocation(), type);
@@ -63,6 +68,10 @@ public class GameObjectFactory {
         return new ArrayList<>(allObjects);
     }
 
+    public List<GameObject> findObjectsAt(Point point) {
+        return objectIndex.query(point);
+    }
+
     public GameObject getObject(GameObjectType type) {
         return objectMap.get(type);
     }
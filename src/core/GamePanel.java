@@ -12,7 +12,9 @@ import network.NetworkClient;
 import network.PlayerData;
 import ui.CharacterSelection;
 import ui.WindowManager;
+import util.AssetCache;
 import util.BackgroundUtil;
+import util.DamageTracker;
 import util.FontManager;
 import util.SoundPlayer;
 
@@ -21,8 +23,13 @@ public class GamePanel extends JPanel {
 
     private final Image background;
     private final Image uiBox;
+    private java.awt.image.BufferedImage staticLayer;
+    private boolean staticLayerDirty = true;
+    private java.awt.geom.Path2D roadPath;
+    private static final BasicStroke ROAD_STROKE = new BasicStroke(3);
     private java.util.List<GameObject> objects;
     private GameObject hoveredObj = null;
+    private final java.util.List<GameObject> hoveredObjects = new java.util.ArrayList<>();
     private GameObjectFactory objectFactory;
     private final SoundPlayer soundPlayer = new SoundPlayer();
     private final WindowManager windowManager = new WindowManager();
@@ -37,7 +44,6 @@ public class GamePanel extends JPanel {
     private java.util.Map<PlayerState.Location, Point> locationPoints = new java.util.HashMap<>();
     private Point mousePosition = new Point();
     private boolean isMoving = false;
-    private javax.swing.Timer moveTimer;
     private java.util.List<Point> currentPath;
     private int currentPathIndex = 0;
     private PlayerState.Location targetLocation;
@@ -46,15 +52,29 @@ public class GamePanel extends JPanel {
     private ui.CharacterHUD characterHUD;
     private ui.OnlinePlayerHUDManager onlineHUDManager;
     private boolean waitingForPlayers = true;
-    private javax.swing.Timer waitingTimer;
-    private javax.swing.Timer timeCheckTimer;
-    private javax.swing.Timer networkTimer;
+    private final GameLoop gameLoop = new GameLoop(new GameLoop.Game() {
+        @Override
+        public void update(long tick) {
+            updateGame(tick);
+        }
+
+        @Override
+        public void render() {
+            renderGame();
+        }
+    }, GameConfig.Game.TICK_RATE, GameConfig.Display.TARGET_FPS);
+    private final DamageTracker damage = new DamageTracker();
+    private boolean overlayWasActive = false;
+    private String timeText;
+    private int connectAttempts = -1;
+    private boolean networkStarted = false;
+    private boolean initialUpdatePending = false;
     private long gameEndTime = 0;
     private String gameEndReason = "";
 
     public GamePanel() {
-        background = new ImageIcon(Lang.BACKGROUND_IMAGE).getImage();
-        uiBox = new ImageIcon(Lang.UI_BOX_IMAGE).getImage();
+        background = loadImage(Lang.BACKGROUND_IMAGE);
+        uiBox = loadImage(Lang.UI_BOX_IMAGE);
         setPreferredSize(new Dimension(GameConfig.Display.GAME_WIDTH, GameConfig.Display.GAME_HEIGHT));
         setFocusable(true);
         requestFocusInWindow();
@@ -66,7 +86,7 @@ public class GamePanel extends JPanel {
         objectFactory = GameObjectFactory.getInstance();
         objects = objectFactory.getAllObjects();
         setupLocationPaths();
-        pathFinder = new PathFinder(roadPoints);
+        pathFinder = new PathFinder(RoadGraph.fromRing(roadPoints, GameConfig.Map.ROAD_JUNCTIONS), locationPoints);
 
         character = null;
         playerState = new PlayerState();
@@ -88,14 +108,25 @@ public class GamePanel extends JPanel {
             public void mouseMoved(MouseEvent e) {
                 mousePosition = e.getPoint();
                 
+                java.util.List<GameObject> hits = objectFactory.findObjectsAt(e.getPoint());
+                for (GameObject obj : hoveredObjects) {
+                    if (!hits.contains(obj)) {
+                        obj.hovered = false;
+                        staticLayerDirty = true;
+                    }
+                }
+                hoveredObjects.clear();
+
                 GameObject newHover = null;
-                for (GameObject obj : objects) {
+                for (GameObject obj : hits) {
                     if (obj.name.equals(Lang.CLOCK_TOWER_NAME))
                         continue;
-                    boolean inside = obj.contains(e.getPoint());
-                    obj.hovered = inside;
-                    if (inside)
-                        newHover = obj;
+                    if (!obj.hovered) {
+                        obj.hovered = true;
+                        staticLayerDirty = true;
+                    }
+                    hoveredObjects.add(obj);
+                    newHover = obj;
                 }
 
                 if (newHover != hoveredObj) {
@@ -107,8 +138,6 @@ public class GamePanel extends JPanel {
                     soundPlayer.play(Lang.UI_CLICK_SOUND);
                     soundPlayed = true;
                 }
-
-                repaint();
             }
         });
 
@@ -130,19 +159,22 @@ public class GamePanel extends JPanel {
                     return;
                 }
 
-                for (GameObject obj : objects) {
+                for (GameObject obj : objectFactory.findObjectsAt(e.getPoint())) {
                     if (obj.name.equals(Lang.CLOCK_TOWER_NAME))
                         continue;
-                    if (obj.contains(e.getPoint())) {
-                        showObjectWindow(obj);
-                        break;
-                    }
+                    showObjectWindow(obj);
+                    break;
                 }
             }
         });
     }
 
 
+    private static Image loadImage(String path) {
+        Image image = AssetCache.get(path);
+        return image != null ? image : new java.awt.image.BufferedImage(1, 1, java.awt.image.BufferedImage.TYPE_INT_ARGB);
+    }
+
     private void setupLocationPaths() {
         locationPoints.put(PlayerState.Location.APARTMENT_SHITTY, GameConfig.Map.APARTMENT_POINT);
         locationPoints.put(PlayerState.Location.BANK, GameConfig.Map.BANK_POINT);
@@ -152,6 +184,16 @@ public class GamePanel extends JPanel {
         locationPoints.put(PlayerState.Location.UNIVERSITY, GameConfig.Map.UNIVERSITY_POINT);
 
         roadPoints.addAll(GameConfig.Map.ROAD_POINTS);
+
+        roadPath = new java.awt.geom.Path2D.Float();
+        for (int i = 0; i < roadPoints.size(); i++) {
+            Point p = roadPoints.get(i);
+            if (i == 0) {
+                roadPath.moveTo(p.x, p.y);
+            } else {
+                roadPath.lineTo(p.x, p.y);
+            }
+        }
     }
 
     public void selectCharacter() {
@@ -180,60 +222,125 @@ public class GamePanel extends JPanel {
         Debug.logTurn("Added myself to CoreDataManager: " + playerId + " (" + Lang.DEFAULT_PLAYER_NAME + ")");
         
         networkClient.connect();
-        
-        new javax.swing.Timer(100, new java.awt.event.ActionListener() {
-            private int attempts = 0;
-            @Override
-            public void actionPerformed(java.awt.event.ActionEvent e) {
-                if (networkClient.isConnected()) {
-                    gameStateManager.addPlayer(playerId, Lang.DEFAULT_PLAYER_NAME, selectedImage);
-                    startNetworkTimers();
-                    ((javax.swing.Timer) e.getSource()).stop();
-                } else if (++attempts > 50) {
-                    ((javax.swing.Timer) e.getSource()).stop();
-                    Debug.log("Connection timeout");
-                }
-            }
-        }).start();
+        connectAttempts = 0;
     }
-    
-    private void startNetworkTimers() {
-        new javax.swing.Timer(100, e -> {
-            networkClient.sendPlayerUpdate();
-            ((javax.swing.Timer) e.getSource()).stop();
-        }).start();
 
-        networkTimer = new javax.swing.Timer(100, _ -> {
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        gameLoop.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        gameLoop.stop();
+        super.removeNotify();
+    }
+
+    private void updateGame(long tick) {
+        if (isMoving) {
+            stepMovement();
+        }
+
+        if (connectAttempts >= 0 && gameLoop.isDue(tick, GameConfig.Network.CONNECT_POLL_INTERVAL)) {
+            pollConnection();
+        }
+
+        if (!networkStarted || gameEndTime != 0) return;
+
+        if (gameLoop.isDue(tick, GameConfig.Network.CLIENT_POLL_INTERVAL)) {
+            if (initialUpdatePending) {
+                networkClient.sendPlayerUpdate();
+                initialUpdatePending = false;
+            }
             updateOnlinePlayers();
             checkPlayerCount();
-        });
-        networkTimer.start();
-
-        waitingTimer = new javax.swing.Timer(500, _ -> {
+        }
+        if (gameLoop.isDue(tick, GameConfig.Network.PLAYER_COUNT_CHECK_INTERVAL)) {
             checkPlayerCount();
-        });
-        waitingTimer.start();
-
-        timeCheckTimer = new javax.swing.Timer(1000, _ -> {
+        }
+        if (gameLoop.isDue(tick, GameConfig.Network.TIME_CHECK_INTERVAL)) {
             checkTimeExpired();
-        });
-        timeCheckTimer.start();
+        }
     }
 
-    @Override
-    protected void paintComponent(Graphics g0) {
-        super.paintComponent(g0);
-        Graphics2D g = (Graphics2D) g0;
-        Rectangle d = BackgroundUtil.getBackgroundDest(background);
-        g.drawImage(background, d.x, d.y, d.width, d.height, this);
+    private void pollConnection() {
+        if (networkClient.isConnected()) {
+            connectAttempts = -1;
+            PlayerData me = networkClient.getMyPlayerData();
+            gameStateManager.addPlayer(me.playerId, Lang.DEFAULT_PLAYER_NAME, me.characterImage);
+            networkStarted = true;
+            initialUpdatePending = true;
+        } else if (++connectAttempts > GameConfig.Network.CONNECT_POLL_ATTEMPTS) {
+            connectAttempts = -1;
+            Debug.log("Connection timeout");
+        }
+    }
+
+    private void renderGame() {
+        updateRemoteMotion();
+        trackDamage();
+        for (Rectangle region : damage.drain()) {
+            paintImmediately(region);
+        }
+    }
+
+    private void trackDamage() {
+        damage.setArea(getWidth(), getHeight());
+
+        boolean overlayActive = isTurnPopupActive() || isGameEndNotificationActive();
+        if (overlayActive || overlayWasActive) {
+            damage.addAll();
+        }
+        overlayWasActive = overlayActive;
+        int waitingState = waitingForPlayers ? 1 + onlineCharacters.size() : 0;
+        damage.track("waiting", new Rectangle(0, 0, getWidth(), getHeight()), waitingState);
 
         for (GameObject obj : objects) {
-            if (obj.name.equals(Lang.CLOCK_TOWER_NAME)) {
-                obj.hovered = false;
+            damage.track(obj, obj.getDrawBounds(), obj.hovered ? 1 : 0);
+        }
+        damage.track("hoverLabel", getHoverLabelBounds(), System.identityHashCode(hoveredObj));
+
+        if (character != null && !waitingForPlayers) {
+            damage.track(character, character.getBounds(), character.getImagePath().hashCode());
+        }
+        if (!waitingForPlayers) {
+            for (core.Character onlineChar : onlineCharacters.values()) {
+                damage.track(onlineChar, onlineChar.getBounds(), onlineChar.getImagePath().hashCode());
             }
-            obj.draw(g);
         }
 
+        if (characterHUD != null) {
+            damage.track(characterHUD, characterHUD.getBounds(), characterHUD.getRenderState());
+        }
+        if (onlineHUDManager != null) {
+            onlineHUDManager.trackDamage(damage);
+        }
+
+        timeText = buildTimeText();
+        if (timeText != null) {
+            damage.track("time", new Rectangle(0, GameConfig.Display.GAME_HEIGHT - 60, GameConfig.Display.GAME_WIDTH, 40),
+                    timeText.hashCode());
+        }
+        if (GameConfig.Debug.SHOW_FRAME_STATS) {
+            damage.track("stats", new Rectangle(0, GameConfig.Display.GAME_HEIGHT - 30, GameConfig.Display.GAME_WIDTH, 30),
+                    gameLoop.getStats().hashCode());
+        }
+    }
+
+    private Rectangle getHoverLabelBounds() {
+        int boxW = (int) (uiBox.getWidth(null) * GameConfig.Display.UI_SCALE);
+        int boxH = (int) (uiBox.getHeight(null) * GameConfig.Display.UI_SCALE);
+        int cy = GameConfig.Display.GAME_HEIGHT / GameConfig.Display.UI_OFFSET_Y - boxH / 2;
+        return new Rectangle(0, cy, Math.max(boxW, GameConfig.Display.GAME_WIDTH), boxH + 40);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g0) {
+        super.paintComponent(g0);
+        Graphics2D g = (Graphics2D) g0;
+        drawStaticLayer(g);
+
         if (hoveredObj != null) {
             int boxW = (int) (uiBox.getWidth(null) * GameConfig.Display.UI_SCALE);
             int boxH = (int) (uiBox.getHeight(null) * GameConfig.Display.UI_SCALE);
@@ -273,6 +380,7 @@ public class GamePanel extends JPanel {
         drawTurnPopup((Graphics2D) g);
         drawTimeDisplay((Graphics2D) g);
         drawGameEndNotification((Graphics2D) g);
+        drawFrameStats(g);
 
         if (waitingForPlayers) {
             g.setColor(new Color(0, 0, 0, 150));
@@ -291,12 +399,38 @@ public class GamePanel extends JPanel {
         }
 
         g.setColor(Color.GRAY);
-        g.setStroke(new java.awt.BasicStroke(3));
-        for (int i = 0; i < roadPoints.size() - 1; i++) {
-            Point p1 = roadPoints.get(i);
-            Point p2 = roadPoints.get(i + 1);
-            g.drawLine(p1.x, p1.y, p2.x, p2.y);
+        g.setStroke(ROAD_STROKE);
+        g.draw(roadPath);
+    }
+
+    private void drawStaticLayer(Graphics2D g) {
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) return;
+
+        if (staticLayer == null || staticLayer.getWidth() != width || staticLayer.getHeight() != height) {
+            staticLayer = getGraphicsConfiguration().createCompatibleImage(width, height, Transparency.OPAQUE);
+            staticLayerDirty = true;
         }
+        if (staticLayerDirty) {
+            Graphics2D layer = staticLayer.createGraphics();
+            try {
+                layer.setColor(getBackground());
+                layer.fillRect(0, 0, width, height);
+                Rectangle d = BackgroundUtil.getBackgroundDest(background);
+                layer.drawImage(background, d.x, d.y, d.width, d.height, null);
+                for (GameObject obj : objects) {
+                    if (obj.name.equals(Lang.CLOCK_TOWER_NAME)) {
+                        obj.hovered = false;
+                    }
+                    obj.draw(layer);
+                }
+            } finally {
+                layer.dispose();
+            }
+            staticLayerDirty = false;
+        }
+        g.drawImage(staticLayer, 0, 0, null);
     }
 
     private void showObjectWindow(GameObject obj) {
@@ -350,7 +484,7 @@ public class GamePanel extends JPanel {
         Point toPoint = locationPoints.get(targetLocation);
         
         if (fromPoint != null && toPoint != null) {
-            java.util.List<Point> path = pathFinder.findPath(fromPoint, toPoint);
+            java.util.List<Point> path = pathFinder.findPath(currentLocation, targetLocation);
             if (path != null && !path.isEmpty()) {
                 startMovement(path, targetLocation, obj);
             } else {
@@ -382,35 +516,33 @@ public class GamePanel extends JPanel {
 
         Debug.log(Lang.STARTING_MOVEMENT + path.size() + Lang.POINTS);
 
-        moveTimer = new javax.swing.Timer(GameConfig.Game.MOVEMENT_TIMER_INTERVAL, e -> {
-            if (currentPathIndex < currentPath.size()) {
-                Point targetPoint = currentPath.get(currentPathIndex);
-                Point currentPos = character.getPosition();
-                
-                if (!targetPoint.equals(currentPos)) {
-                    character.setPosition(targetPoint);
-                    playerState.setCurrentPosition(targetPoint);
+    }
 
-                    if (networkClient != null && currentPathIndex % 5 == 0) {
-                        networkClient.sendPlayerMove(targetPoint);
-                    }
-                }
+    private void stepMovement() {
+        if (currentPathIndex < currentPath.size()) {
+            Point targetPoint = currentPath.get(currentPathIndex);
+            Point currentPos = character.getPosition();
+            
+            if (!targetPoint.equals(currentPos)) {
+                character.setPosition(targetPoint);
+                playerState.setCurrentPosition(targetPoint);
 
-                if (networkClient != null && currentPathIndex % 10 == 0) {
-                    networkClient.sendPlayerLocationChange(playerState.getCurrentLocation());
+                if (networkClient != null && currentPathIndex % 5 == 0) {
+                    networkClient.sendPlayerMove(targetPoint);
                 }
-                
-                currentPathIndex++;
-                repaint();
-            } else {
-                finishMovement();
             }
-        });
-        moveTimer.start();
+
+            if (networkClient != null && currentPathIndex % 10 == 0) {
+                networkClient.sendPlayerLocationChange(playerState.getCurrentLocation());
+            }
+            
+            currentPathIndex++;
+        } else {
+            finishMovement();
+        }
     }
 
     private void finishMovement() {
-        moveTimer.stop();
         isMoving = false;
         playerState.setCurrentLocation(targetLocation);
         
@@ -463,8 +595,7 @@ public class GamePanel extends JPanel {
         }
     }
 
-    private Map<String, Point> lastKnownPositions = new HashMap<>();
-    private Map<String, Long> lastUpdateTimes = new HashMap<>();
+    private Map<String, InterpolationBuffer> remoteMotion = new HashMap<>();
     
     
     private boolean isTurnBasedMode = true;
@@ -521,8 +652,9 @@ public class GamePanel extends JPanel {
                 String characterImage = player.characterImage != null ? player.characterImage : Lang.MALE_01;
                 
                 onlineCharacters.put(playerId, new core.Character(playerPosition, characterImage));
-                lastKnownPositions.put(playerId, playerPosition);
-                lastUpdateTimes.put(playerId, currentTime);
+                InterpolationBuffer motion = new InterpolationBuffer(GameConfig.Network.INTERPOLATION_BUFFER_SIZE);
+                motion.push(player.timestamp, playerPosition);
+                remoteMotion.put(playerId, motion);
                 
                 PlayerState playerState = new PlayerState();
                 playerState.setPlayerName(player.playerName);
@@ -561,13 +693,9 @@ public class GamePanel extends JPanel {
             } else {
                 core.Character existingChar = onlineCharacters.get(playerId);
                 if (existingChar != null) {
-                    Point newPos = player.position;
-                    Point lastKnownPos = lastKnownPositions.get(playerId);
-                    
-                    if (newPos != null && (lastKnownPos == null || !lastKnownPos.equals(newPos))) {
-                        existingChar.setPosition(newPos);
-                        lastKnownPositions.put(playerId, newPos);
-                        lastUpdateTimes.put(playerId, currentTime);
+                    InterpolationBuffer motion = remoteMotion.get(playerId);
+                    if (motion != null) {
+                        motion.push(player.timestamp, player.position);
                     }
             
                     String currentImage = existingChar.getImagePath();
@@ -596,8 +724,7 @@ public class GamePanel extends JPanel {
         for (String characterId : characterIds) {
             if (!currentPlayerIds.contains(characterId)) {
                 onlineCharacters.remove(characterId);
-                lastKnownPositions.remove(characterId);
-                lastUpdateTimes.remove(characterId);
+                remoteMotion.remove(characterId);
                 onlineHUDManager.removePlayer(characterId);
                 
                 java.util.List<String> allPlayerIds = new java.util.ArrayList<>();
@@ -607,8 +734,17 @@ public class GamePanel extends JPanel {
                 updatePlayerNumbers(allPlayerIds);
             }
         }
+    }
 
-        repaint();
+    private void updateRemoteMotion() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, core.Character> entry : onlineCharacters.entrySet()) {
+            InterpolationBuffer motion = remoteMotion.get(entry.getKey());
+            Point drawPosition = motion != null ? motion.sample(now) : null;
+            if (drawPosition != null) {
+                entry.getValue().setDrawPosition(drawPosition);
+            }
+        }
     }
 
     
@@ -648,7 +784,6 @@ public class GamePanel extends JPanel {
         coreDataManager.forceSetTurn(newTurnPlayerId);
         
         updateTurnFromServer();
-        repaint();
         
         if (coreDataManager.canStartGame()) {
             showInitialTurnPopup();
@@ -726,10 +861,10 @@ public class GamePanel extends JPanel {
         
         try {
             String tokenPath = "assets/ui/hud/Token P" + turnPlayerNumber + " Front.png";
-            java.awt.image.BufferedImage tokenIcon = javax.imageio.ImageIO.read(new java.io.File(tokenPath));
+            java.awt.image.BufferedImage tokenIcon = AssetCache.getScaled(tokenPath, tokenSize, tokenSize);
             
             if (tokenIcon != null) {
-                g2d.drawImage(tokenIcon, centerX - tokenSize/2, centerY - tokenSize/2, tokenSize, tokenSize, null);
+                g2d.drawImage(tokenIcon, centerX - tokenSize/2, centerY - tokenSize/2, null);
             }
         } catch (Exception e) {
             g2d.setColor(new Color(isMyTurn ? 0 : 255, isMyTurn ? 255 : 255, 0, (int)(200 * alpha)));
@@ -813,6 +948,16 @@ public class GamePanel extends JPanel {
         }
     }
     
+    private boolean isTurnPopupActive() {
+        return coreDataManager.getCurrentTurnPlayer() != null
+                && System.currentTimeMillis() - turnPopupStartTime <= GameConfig.Game.TURN_POPUP_DURATION;
+    }
+    
+    private boolean isGameEndNotificationActive() {
+        return gameEndTime != 0
+                && System.currentTimeMillis() - gameEndTime <= GameConfig.Game.GAME_END_NOTIFICATION_DURATION;
+    }
+    
     private void showInitialTurnPopup() {
         turnPopupStartTime = System.currentTimeMillis();
     }
@@ -837,8 +982,8 @@ public class GamePanel extends JPanel {
         }
     }
     
-    private void drawTimeDisplay(Graphics2D g2d) {
-        if (playerState == null || waitingForPlayers) return;
+    private String buildTimeText() {
+        if (playerState == null || waitingForPlayers) return null;
         
         int currentPlayerTime = 0;
         String currentPlayerName = "";
@@ -874,7 +1019,11 @@ public class GamePanel extends JPanel {
             }
         }
         
-        String timeText = currentPlayerName + " - เวลาที่เหลือ: " + currentPlayerTime + " ชั่วโมง";
+        return currentPlayerName + " - เวลาที่เหลือ: " + currentPlayerTime + " ชั่วโมง";
+    }
+    
+    private void drawTimeDisplay(Graphics2D g2d) {
+        if (timeText == null || waitingForPlayers) return;
         
         g2d.setColor(new Color(0, 0, 0, 150));
         g2d.fillRoundRect(GameConfig.Display.GAME_WIDTH/2 - 200, GameConfig.Display.GAME_HEIGHT - 60, 400, 40, 10, 10);
@@ -907,21 +1056,14 @@ public class GamePanel extends JPanel {
         gameEndReason = reason;
         Debug.log("🎮 Game has ended: " + reason);
 
-        if (moveTimer != null && moveTimer.isRunning()) {
-            moveTimer.stop();
-        }
-        if (waitingTimer != null && waitingTimer.isRunning()) {
-            waitingTimer.stop();
-        }
-        if (timeCheckTimer != null && timeCheckTimer.isRunning()) {
-            timeCheckTimer.stop();
-        }
-        if (networkTimer != null && networkTimer.isRunning()) {
-            networkTimer.stop();
-        }
-
         isMoving = false;
-        repaint();
+    }
+
+    private void drawFrameStats(Graphics2D g2d) {
+        if (!GameConfig.Debug.SHOW_FRAME_STATS) return;
+        g2d.setColor(Color.WHITE);
+        g2d.setFont(new Font(GameConfig.Font.DEFAULT_NAME, Font.PLAIN, GameConfig.Font.SIZE_SMALL));
+        g2d.drawString(gameLoop.getStats(), 10, GameConfig.Display.GAME_HEIGHT - 10);
     }
 
     private void drawGameEndNotification(Graphics2D g2d) {
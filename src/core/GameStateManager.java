@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import util.ThreadFactories;
 
 public class GameStateManager {
     public enum GamePhase {
@@ -133,7 +134,7 @@ public class GameStateManager {
                     nextTurn();
                 }
                 
-                new Thread(() -> {
+                ThreadFactories.start("Game-Phase", () -> {
                     try {
                         Thread.sleep(2000);
                         synchronized (stateLock) {
@@ -145,7 +146,7 @@ public class GameStateManager {
                     } catch (InterruptedException e) {
                         Thread.currentThread().interrupt();
                     }
-                }).start();
+                });
             }
         }
     }
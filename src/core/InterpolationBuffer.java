@@ -0,0 +1,99 @@
+package core;
+
+import java.awt.Point;
+
+public class InterpolationBuffer {
+    private final long[] times;
+    private final int[] xs;
+    private final int[] ys;
+    private int start = 0;
+    private int size = 0;
+
+    public InterpolationBuffer(int capacity) {
+        this.times = new long[capacity];
+        this.xs = new int[capacity];
+        this.ys = new int[capacity];
+    }
+
+    public void push(long timestamp, Point position) {
+        if (position == null) return;
+
+        if (size > 0) {
+            int last = index(size - 1);
+            if (timestamp <= times[last] || (xs[last] == position.x && ys[last] == position.y)) return;
+
+            double distance = Point.distance(xs[last], ys[last], position.x, position.y);
+            if (distance > GameConfig.Network.INTERPOLATION_SNAP_DISTANCE) {
+                clear();
+            } else if (timestamp - times[last] > GameConfig.Network.INTERPOLATION_DELAY) {
+                add(timestamp - GameConfig.Network.BROADCAST_INTERVAL, xs[last], ys[last]);
+            }
+        }
+        add(timestamp, position.x, position.y);
+    }
+
+    public Point sample(long now) {
+        if (size == 0) return null;
+
+        long renderTime = now - GameConfig.Network.INTERPOLATION_DELAY;
+        int first = index(0);
+        if (size == 1 || renderTime <= times[first]) {
+            return new Point(xs[first], ys[first]);
+        }
+
+        for (int i = size - 1; i > 0; i--) {
+            int to = index(i);
+            int from = index(i - 1);
+            if (renderTime >= times[from]) {
+                if (renderTime <= times[to]) {
+                    double t = (double) (renderTime - times[from]) / (times[to] - times[from]);
+                    return lerp(from, to, t);
+                }
+                return extrapolate(from, to, renderTime - times[to]);
+            }
+        }
+        return new Point(xs[first], ys[first]);
+    }
+
+    public long getLatestTime() {
+        return size > 0 ? times[index(size - 1)] : 0;
+    }
+
+    public void clear() {
+        start = 0;
+        size = 0;
+    }
+
+    private Point extrapolate(int from, int to, long overshoot) {
+        long limit = GameConfig.Network.MAX_EXTRAPOLATION;
+        long ahead = overshoot <= limit ? overshoot : Math.max(0, 2 * limit - overshoot);
+        if (ahead == 0) {
+            return new Point(xs[to], ys[to]);
+        }
+        double t = 1.0 + (double) ahead / (times[to] - times[from]);
+        return lerp(from, to, t);
+    }
+
+    private Point lerp(int from, int to, double t) {
+        int x = (int) Math.round(xs[from] + (xs[to] - xs[from]) * t);
+        int y = (int) Math.round(ys[from] + (ys[to] - ys[from]) * t);
+        return new Point(x, y);
+    }
+
+    private void add(long timestamp, int x, int y) {
+        int slot;
+        if (size < times.length) {
+            slot = index(size++);
+        } else {
+            slot = start;
+            start = (start + 1) % times.length;
+        }
+        times[slot] = timestamp;
+        xs[slot] = x;
+        ys[slot] = y;
+    }
+
+    private int index(int offset) {
+        return (start + offset) % times.length;
+    }
+}
@@ -2,17 +2,33 @@ package core;
 
 import java.awt.Point;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 public class PathFinder {
-    private final List<Point> roadPoints;
+    private final RoadGraph graph;
+    private final Map<PlayerState.Location, Map<PlayerState.Location, List<Point>>> routes =
+            new EnumMap<>(PlayerState.Location.class);
 
-    public PathFinder(List<Point> roadPoints) {
-        this.roadPoints = roadPoints;
+    public PathFinder(RoadGraph graph, Map<PlayerState.Location, Point> anchors) {
+        this.graph = graph;
+        for (Map.Entry<PlayerState.Location, Point> from : anchors.entrySet()) {
+            Map<PlayerState.Location, List<Point>> row = new EnumMap<>(PlayerState.Location.class);
+            for (Map.Entry<PlayerState.Location, Point> to : anchors.entrySet()) {
+                row.put(to.getKey(), List.copyOf(findPath(from.getValue(), to.getValue())));
+            }
+            routes.put(from.getKey(), row);
+        }
+    }
+
+    public List<Point> findPath(PlayerState.Location from, PlayerState.Location to) {
+        Map<PlayerState.Location, List<Point>> row = routes.get(from);
+        return row != null ? row.get(to) : null;
     }
 
     public List<Point> findPath(Point from, Point to) {
-        if (roadPoints.isEmpty()) {
+        if (graph.size() == 0) {
             return calculateDirectPath(from, to);
         }
         return calculateRoadPath(from, to);
@@ -35,82 +51,24 @@ public class PathFinder {
     }
 
     private List<Point> calculateRoadPath(Point from, Point to) {
-        List<Point> path = new ArrayList<>();
-        Point nearestFrom = findNearestRoadPoint(from);
-        Point nearestTo = findNearestRoadPoint(to);
-        
-        if (nearestFrom != null && nearestTo != null) {
-            path.add(from);
-            if (!from.equals(nearestFrom)) {
-                path.add(nearestFrom);
-            }
-            
-            List<Point> roadPath = findRoadPath(nearestFrom, nearestTo);
-            path.addAll(roadPath);
-            
-            if (!nearestTo.equals(to)) {
-                path.add(to);
-            }
-        } else {
+        int fromNode = graph.findNearestNode(from);
+        int toNode = graph.findNearestNode(to);
+        int[] route = graph.findRoute(fromNode, toNode);
+        if (route.length == 0) {
             return calculateDirectPath(from, to);
         }
-        return path;
-    }
 
-    private Point findNearestRoadPoint(Point target) {
-        if (roadPoints.isEmpty()) return null;
-        
-        Point nearest = roadPoints.get(0);
-        double minDistance = target.distance(nearest);
-        
-        for (Point roadPoint : roadPoints) {
-            double distance = target.distance(roadPoint);
-            if (distance < minDistance) {
-                minDistance = distance;
-                nearest = roadPoint;
+        List<Point> path = new ArrayList<>(route.length + 2);
+        path.add(from);
+        for (int node : route) {
+            Point point = graph.getNode(node);
+            if (!point.equals(path.get(path.size() - 1))) {
+                path.add(point);
             }
         }
-        return nearest;
-    }
-
-    private List<Point> findRoadPath(Point from, Point to) {
-        List<Point> path = new ArrayList<>();
-        int fromIndex = findRoadPointIndex(from);
-        int toIndex = findRoadPointIndex(to);
-        
-        if (fromIndex == -1 || toIndex == -1) return path;
-        
-        int totalPoints = roadPoints.size();
-        int forwardDistance = (toIndex - fromIndex + totalPoints) % totalPoints;
-        int backwardDistance = (fromIndex - toIndex + totalPoints) % totalPoints;
-        
-        if (forwardDistance <= backwardDistance) {
-            for (int i = fromIndex; i != toIndex; i = (i + 1) % totalPoints) {
-                path.add(roadPoints.get(i));
-            }
-            path.add(roadPoints.get(toIndex));
-        } else {
-            for (int i = fromIndex; i != toIndex; i = (i - 1 + totalPoints) % totalPoints) {
-                path.add(roadPoints.get(i));
-            }
-            path.add(roadPoints.get(toIndex));
+        if (!to.equals(path.get(path.size() - 1))) {
+            path.add(to);
         }
         return path;
     }
-    
-    private int findRoadPointIndex(Point target) {
-        if (roadPoints.isEmpty()) return -1;
-        
-        int nearestIndex = 0;
-        double minDistance = target.distance(roadPoints.get(0));
-        
-        for (int i = 1; i < roadPoints.size(); i++) {
-            double distance = target.distance(roadPoints.get(i));
-            if (distance < minDistance) {
-                minDistance = distance;
-                nearestIndex = i;
-            }
-        }
-        return nearestIndex;
-    }
 }
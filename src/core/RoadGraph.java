@@ -0,0 +1,132 @@
+package core;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import util.SpatialGrid;
+
+public class RoadGraph {
+    private final List<Point> nodes;
+    private final int[][] neighbors;
+    private final double[][] weights;
+    private final SpatialGrid<Integer> index = new SpatialGrid<>(GameConfig.Map.SPATIAL_CELL_SIZE);
+
+    public RoadGraph(List<Point> nodes, List<int[]> edges) {
+        this.nodes = Collections.unmodifiableList(new ArrayList<>(nodes));
+        for (int i = 0; i < nodes.size(); i++) {
+            index.insert(i, nodes.get(i));
+        }
+
+        int[] degree = new int[nodes.size()];
+        for (int[] edge : edges) {
+            checkNode(edge[0]);
+            checkNode(edge[1]);
+            degree[edge[0]]++;
+            degree[edge[1]]++;
+        }
+
+        neighbors = new int[nodes.size()][];
+        weights = new double[nodes.size()][];
+        for (int i = 0; i < nodes.size(); i++) {
+            neighbors[i] = new int[degree[i]];
+            weights[i] = new double[degree[i]];
+        }
+
+        int[] filled = new int[nodes.size()];
+        for (int[] edge : edges) {
+            double weight = nodes.get(edge[0]).distance(nodes.get(edge[1]));
+            link(edge[0], edge[1], weight, filled);
+            link(edge[1], edge[0], weight, filled);
+        }
+    }
+
+    public static RoadGraph fromRing(List<Point> points, List<int[]> junctions) {
+        List<int[]> edges = new ArrayList<>();
+        for (int i = 0; i + 1 < points.size(); i++) {
+            edges.add(new int[] {i, i + 1});
+        }
+        if (points.size() > 2) {
+            edges.add(new int[] {points.size() - 1, 0});
+        }
+        edges.addAll(junctions);
+        return new RoadGraph(points, edges);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public Point getNode(int index) {
+        return nodes.get(index);
+    }
+
+    public int findNearestNode(Point target) {
+        Integer nearest = index.findNearest(target);
+        return nearest != null ? nearest : -1;
+    }
+
+    public int[] findRoute(int from, int to) {
+        checkNode(from);
+        checkNode(to);
+        if (from == to) {
+            return new int[] {from};
+        }
+
+        double[] cost = new double[nodes.size()];
+        int[] previous = new int[nodes.size()];
+        boolean[] closed = new boolean[nodes.size()];
+        Arrays.fill(cost, Double.MAX_VALUE);
+        Arrays.fill(previous, -1);
+        cost[from] = 0;
+
+        Point goal = nodes.get(to);
+        PriorityQueue<double[]> open = new PriorityQueue<>((a, b) -> Double.compare(a[0], b[0]));
+        open.add(new double[] {goal.distance(nodes.get(from)), from});
+
+        while (!open.isEmpty()) {
+            int current = (int) open.poll()[1];
+            if (closed[current]) continue;
+            if (current == to) break;
+            closed[current] = true;
+
+            for (int i = 0; i < neighbors[current].length; i++) {
+                int next = neighbors[current][i];
+                double nextCost = cost[current] + weights[current][i];
+                if (!closed[next] && nextCost < cost[next]) {
+                    cost[next] = nextCost;
+                    previous[next] = current;
+                    open.add(new double[] {nextCost + goal.distance(nodes.get(next)), next});
+                }
+            }
+        }
+
+        if (previous[to] == -1) {
+            return new int[0];
+        }
+
+        int length = 1;
+        for (int node = to; node != from; node = previous[node]) {
+            length++;
+        }
+        int[] route = new int[length];
+        for (int node = to, i = length - 1; i >= 0; node = previous[node], i--) {
+            route[i] = node;
+        }
+        return route;
+    }
+
+    private void link(int from, int to, double weight, int[] filled) {
+        neighbors[from][filled[from]] = to;
+        weights[from][filled[from]] = weight;
+        filled[from]++;
+    }
+
+    private void checkNode(int index) {
+        if (index < 0 || index >= nodes.size()) {
+            throw new IllegalArgumentException("Unknown road node: " + index);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package network;
+
+import core.GameConfig;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ClientConnection {
+    public static final int NO_SNAPSHOT = -2;
+
+    private static final AtomicInteger nextId = new AtomicInteger(1);
+
+    private final int id;
+    private final SocketChannel channel;
+    private final SelectorLoop loop;
+    private final String address;
+    private final OutboundQueue outbound = new OutboundQueue(
+            GameConfig.Network.OUTBOUND_QUEUE_CAPACITY, GameConfig.Network.OUTBOUND_OVERFLOW_POLICY);
+    private final ByteBuffer[] gather = new ByteBuffer[GameConfig.Network.MAX_GATHER_FRAMES];
+    private int gatherOffset = 0;
+    private int gatherCount = 0;
+    private final AtomicBoolean writeScheduled = new AtomicBoolean(false);
+    private ByteBuffer readBuffer = ByteBuffer.allocate(GameConfig.Network.READ_BUFFER_SIZE);
+    private SelectionKey key;
+    private volatile int protocolVersion = MessageCodec.LEGACY_VERSION;
+    private boolean framingKnown = false;
+    private boolean handshaken = false;
+    private LegacyStreamReader legacyStream;
+    private volatile boolean closed = false;
+    private int ackedSequence = -1;
+    private int sentSequence = -1;
+
+    ClientConnection(SocketChannel channel, SelectorLoop loop) {
+        this.id = nextId.getAndIncrement();
+        this.channel = channel;
+        this.loop = loop;
+        this.address = describe(channel);
+    }
+
+    private static String describe(SocketChannel channel) {
+        try {
+            return String.valueOf(channel.getRemoteAddress());
+        } catch (IOException e) {
+            return "unknown";
+        }
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public int getProtocolVersion() {
+        return protocolVersion;
+    }
+
+    public OutboundQueue getOutboundQueue() {
+        return outbound;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public void send(NetworkMessage msg) {
+        send(new EncodedMessage(msg));
+    }
+
+    public void send(EncodedMessage encoded) {
+        if (closed) return;
+        try {
+            NetworkMessage msg = encoded.getMessage();
+            String playerId = msg.playerData != null ? msg.playerData.playerId : null;
+            ByteBuffer frame = encoded.frame(protocolVersion);
+            if (!outbound.offer(new OutboundQueue.Frame(msg.type, playerId, frame))) {
+                loop.requestClose(this, "Outbound queue overflow (" + outbound.getDepth() + " frames)");
+                return;
+            }
+            if (writeScheduled.compareAndSet(false, true)) {
+                loop.requestWrite(this);
+            }
+        } catch (IOException e) {
+            loop.requestClose(this, "Encode error: " + e.getMessage());
+        }
+    }
+
+    public synchronized int getAckedSequence() {
+        return ackedSequence;
+    }
+
+    synchronized void acknowledgeSnapshot(int sequence) {
+        if (sequence < 0) {
+            ackedSequence = -1;
+            sentSequence = -1;
+        } else if (sequence > ackedSequence) {
+            ackedSequence = sequence;
+        }
+    }
+
+    synchronized int nextSnapshotBaseline(int latestSequence) {
+        if (sentSequence >= latestSequence) {
+            return NO_SNAPSHOT;
+        }
+        sentSequence = latestSequence;
+        return ackedSequence;
+    }
+
+    public void close() {
+        loop.requestClose(this, "Closed by server");
+    }
+
+    SocketChannel getChannel() {
+        return channel;
+    }
+
+    void setKey(SelectionKey key) {
+        this.key = key;
+    }
+
+    SelectionKey getKey() {
+        return key;
+    }
+
+    void markClosed() {
+        closed = true;
+        if (legacyStream != null) {
+            legacyStream.close();
+        }
+        outbound.clear();
+        Arrays.fill(gather, null);
+        gatherOffset = 0;
+        gatherCount = 0;
+    }
+
+    List<NetworkMessage> readMessages() throws IOException {
+        int read = channel.read(readBuffer);
+        if (read == -1) {
+            throw new EOFException();
+        }
+
+        readBuffer.flip();
+        if (!framingKnown) {
+            if (readBuffer.remaining() < 2) {
+                readBuffer.compact();
+                return List.of();
+            }
+            framingKnown = true;
+            if (MessageCodec.isStreamHeader(readBuffer)) {
+                startLegacyStream();
+            }
+        }
+        if (legacyStream != null) {
+            legacyStream.feed(readBuffer);
+            readBuffer.clear();
+            return List.of();
+        }
+
+        List<NetworkMessage> messages = new ArrayList<>();
+        while (readBuffer.remaining() >= MessageCodec.HEADER_SIZE) {
+            int length = readBuffer.getInt(readBuffer.position());
+            MessageCodec.checkFrameLength(length);
+            if (readBuffer.remaining() < MessageCodec.HEADER_SIZE + length) {
+                ensureCapacity(MessageCodec.HEADER_SIZE + length);
+                break;
+            }
+            readBuffer.position(readBuffer.position() + MessageCodec.HEADER_SIZE);
+            NetworkMessage msg = MessageCodec.decode(readBuffer.array(), readBuffer.arrayOffset() + readBuffer.position(),
+                    length, !handshaken);
+            readBuffer.position(readBuffer.position() + length);
+
+            if (msg.type == NetworkMessage.MessageType.HELLO) {
+                handshaken = true;
+                protocolVersion = MessageCodec.negotiateVersion(msg.protocolVersion);
+                send(NetworkMessage.createHello(protocolVersion));
+            } else if (msg.type == NetworkMessage.MessageType.SNAPSHOT_ACK) {
+                acknowledgeSnapshot(msg.sequence);
+            } else {
+                messages.add(msg);
+            }
+        }
+        readBuffer.compact();
+        return messages;
+    }
+
+    private void startLegacyStream() {
+        legacyStream = new LegacyStreamReader(this, loop);
+        if (!outbound.offer(new OutboundQueue.Frame(NetworkMessage.MessageType.HELLO, null, MessageCodec.streamHeader()))) {
+            loop.requestClose(this, "Outbound queue overflow");
+            return;
+        }
+        if (writeScheduled.compareAndSet(false, true)) {
+            loop.requestWrite(this);
+        }
+        legacyStream.start();
+    }
+
+    private void ensureCapacity(int frameSize) {
+        if (frameSize <= readBuffer.capacity()) return;
+        ByteBuffer larger = ByteBuffer.allocate(frameSize);
+        larger.put(readBuffer);
+        larger.flip();
+        readBuffer = larger;
+    }
+
+    boolean writePending() throws IOException {
+        writeScheduled.set(false);
+        while (true) {
+            if (gatherOffset == gatherCount) {
+                gatherOffset = 0;
+                gatherCount = outbound.drainTo(gather);
+                if (gatherCount == 0) {
+                    return true;
+                }
+            }
+            channel.write(gather, gatherOffset, gatherCount - gatherOffset);
+            while (gatherOffset < gatherCount && !gather[gatherOffset].hasRemaining()) {
+                gather[gatherOffset++] = null;
+            }
+            if (gatherOffset < gatherCount) {
+                return false;
+            }
+        }
+    }
+}
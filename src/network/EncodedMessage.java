@@ -0,0 +1,29 @@
+package network;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+public class EncodedMessage {
+    private final NetworkMessage message;
+    private final ByteBuffer[] frames = new ByteBuffer[MessageCodec.PROTOCOL_VERSION + 1];
+
+    public EncodedMessage(NetworkMessage message) {
+        this.message = message;
+    }
+
+    public NetworkMessage getMessage() {
+        return message;
+    }
+
+    public ByteBuffer frame(int version) throws IOException {
+        ByteBuffer frame;
+        synchronized (frames) {
+            frame = frames[version];
+            if (frame == null) {
+                frame = MessageCodec.encodeFrame(message, version).asReadOnlyBuffer();
+                frames[version] = frame;
+            }
+        }
+        return frame.duplicate();
+    }
+}
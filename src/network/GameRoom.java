@@ -0,0 +1,434 @@
+package network;
+
+import core.CoreDataManager;
+import core.Debug;
+import core.GameConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+public class GameRoom {
+    private final int id;
+    private final CoreDataManager coreDataManager = CoreDataManager.create();
+    private final StateSync stateSync = new StateSync(coreDataManager);
+    private final Set<ClientConnection> members = ConcurrentHashMap.newKeySet();
+    private final Map<ClientConnection, String> clientConnections = new ConcurrentHashMap<>();
+    private final Map<String, String> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Long> suspendedUntil = new ConcurrentHashMap<>();
+    private final ExecutorService shard;
+    private final RoomManager manager;
+    private final Consumer<String> logger;
+    private final Runnable onPlayersChanged;
+
+    GameRoom(int id, ExecutorService shard, RoomManager manager, Consumer<String> logger, Runnable onPlayersChanged) {
+        this.id = id;
+        this.shard = shard;
+        this.manager = manager;
+        this.logger = logger;
+        this.onPlayersChanged = onPlayersChanged;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public CoreDataManager getDataManager() {
+        return coreDataManager;
+    }
+
+    public int getMemberCount() {
+        return members.size();
+    }
+
+    public Set<ClientConnection> getConnections() {
+        return clientConnections.keySet();
+    }
+
+    public boolean isOpen() {
+        return members.size() + suspendedUntil.size() < GameConfig.Game.MAX_PLAYERS_PER_ROOM
+                && !coreDataManager.isGameEnded();
+    }
+
+    boolean isEmpty() {
+        return members.isEmpty() && suspendedUntil.isEmpty();
+    }
+
+    boolean hasSession(String sessionToken) {
+        return sessions.containsValue(sessionToken);
+    }
+
+    void addMember(ClientConnection connection) {
+        members.add(connection);
+    }
+
+    void removeMember(ClientConnection connection) {
+        members.remove(connection);
+    }
+
+    private void execute(Runnable task) {
+        try {
+            shard.execute(task);
+        } catch (RejectedExecutionException e) {
+            log("Dropped task: server stopping");
+        }
+    }
+
+    void onMessage(ClientConnection connection, NetworkMessage msg) {
+        execute(() -> {
+            log("Received message from " + connection.getAddress() + ": " + msg.type);
+            handleMessage(msg, connection);
+        });
+    }
+
+    void onDisconnect(ClientConnection connection) {
+        execute(() -> cleanupClient(connection));
+    }
+
+    void tick() {
+        execute(() -> {
+            try {
+                stateSync.tick(clientConnections.keySet());
+            } catch (RuntimeException e) {
+                log("Tick error: " + e.getMessage());
+            }
+        });
+    }
+
+    void expireSessions() {
+        execute(this::removeExpiredSessions);
+    }
+
+    public PlayerData findPlayerByDisplayId(String displayId) {
+        for (PlayerData player : coreDataManager.getAllPlayers().values()) {
+            if (displayId.equals(coreDataManager.getPlayerDisplayId(player.playerId))) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    public CompletableFuture<Boolean> kick(String displayId) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        try {
+            shard.execute(() -> result.complete(kickPlayer(displayId)));
+        } catch (RejectedExecutionException e) {
+            result.complete(false);
+        }
+        return result;
+    }
+
+    private boolean kickPlayer(String displayId) {
+        PlayerData player = findPlayerByDisplayId(displayId);
+        if (player == null) return false;
+        sessions.remove(player.playerId);
+        for (Map.Entry<ClientConnection, String> connEntry : clientConnections.entrySet()) {
+            if (connEntry.getValue().equals(player.playerId)) {
+                if (connEntry.getKey().getProtocolVersion() != MessageCodec.LEGACY_VERSION) {
+                    connEntry.getKey().send(NetworkMessage.createKicked(player.playerId, "Kicked by server"));
+                }
+                connEntry.getKey().close();
+                log("Kicked player: " + displayId + " (" + player.playerId + ")");
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public List<String> describePlayers() {
+        List<String> entries = new ArrayList<>();
+        String currentTurn = coreDataManager.getCurrentTurnPlayer();
+        for (PlayerData player : coreDataManager.getAllPlayers().values()) {
+            String displayId = coreDataManager.getPlayerDisplayId(player.playerId);
+            String turnIndicator = (currentTurn != null && currentTurn.equals(player.playerId)) ? " [TURN]" : "";
+            entries.add("R" + id + " " + displayId + ": " + player.playerName + turnIndicator);
+        }
+        return entries;
+    }
+
+    private void sendExistingPlayers(ClientConnection connection) {
+        for (PlayerData player : coreDataManager.getAllPlayers().values()) {
+            if (player != null) {
+                connection.send(NetworkMessage.createPlayerJoin(player));
+                String displayId = coreDataManager.getPlayerDisplayId(player.playerId);
+                log("Sent existing player data to " + connection.getAddress() + ": " + displayId + " (" + player.playerId + ")");
+            }
+        }
+    }
+
+    private void cleanupClient(ClientConnection connection) {
+        String playerId = clientConnections.remove(connection);
+        if (playerId != null) {
+            PlayerData player = coreDataManager.getPlayer(playerId);
+            if (player != null && sessions.containsKey(playerId) && !coreDataManager.isGameEnded()) {
+                suspendedUntil.put(playerId, System.currentTimeMillis() + GameConfig.Network.SESSION_GRACE_PERIOD);
+                log("Player suspended: " + playerId + " (" + connection.getAddress() + "), holding slot for "
+                        + GameConfig.Network.SESSION_GRACE_PERIOD / 1000 + "s");
+            } else if (player != null) {
+                log("Player disconnected: " + playerId + " (" + connection.getAddress() + ")");
+                evictPlayer(player);
+            }
+        }
+        members.remove(connection);
+        log("Client " + connection.getAddress() + " cleanup completed");
+        manager.closeIfEmpty(this);
+    }
+
+    private void handleMessage(NetworkMessage msg, ClientConnection sender) {
+        if (msg == null || msg.playerData == null) {
+            log("Received null message or playerData");
+            return;
+        }
+
+        switch (msg.type) {
+            case PLAYER_JOIN:
+                if (msg.playerData.playerId != null && !msg.playerData.playerId.isEmpty()) {
+                    PlayerData existingPlayer = coreDataManager.getPlayer(msg.playerData.playerId);
+                    if (existingPlayer != null && !msg.playerData.playerId.equals(clientConnections.get(sender))) {
+                        rejectJoin(msg.playerData.playerId, sender);
+                        break;
+                    }
+                    if (!clientConnections.containsKey(sender)) {
+                        sendExistingPlayers(sender);
+                    }
+                    if (existingPlayer == null) {
+                        coreDataManager.addPlayer(
+                            msg.playerData.playerId,
+                            msg.playerData.playerName,
+                            msg.playerData.position,
+                            msg.playerData.characterImage
+                        );
+                        clientConnections.put(sender, msg.playerData.playerId);
+                        stateSync.markDirty(msg.playerData.playerId);
+                        openSession(msg.playerData.playerId, sender);
+                        String displayId = coreDataManager.getPlayerDisplayId(msg.playerData.playerId);
+                        Debug.logServer("Room " + id + ": player joined: " + msg.playerData.playerName + " (" + displayId + ") at " + msg.playerData.position);
+                        Debug.logServer("Room " + id + ": total players now: " + coreDataManager.getPlayerCount());
+                        broadcastMessage(msg, sender);
+                        onPlayersChanged.run();
+
+                        if (coreDataManager.canStartGame() && coreDataManager.getCurrentTurnPlayer() == null) {
+                            Debug.logServer("🎮 Room " + id + ": starting game with " + coreDataManager.getPlayerCount() + " players");
+                            coreDataManager.startGame();
+
+                            for (PlayerData player : coreDataManager.getAllPlayers().values()) {
+                                NetworkMessage playerMsg = NetworkMessage.createPlayerJoin(player);
+                                broadcastMessage(playerMsg, null);
+                                Debug.logServer("📤 Sent player data to all clients: " + player.playerName + " (" + player.playerId + ")");
+                            }
+
+                            String currentTurn = coreDataManager.getCurrentTurnPlayer();
+                            if (currentTurn != null) {
+                                NetworkMessage turnMsg = NetworkMessage.createTurnChange(currentTurn);
+                                broadcastMessage(turnMsg, null);
+                                Debug.logServer("🎯 Room " + id + ": broadcasted game start turn: " + currentTurn);
+                            }
+                        } else {
+                            Debug.logServer("⏳ Room " + id + ": waiting for more players to start game: " + coreDataManager.getPlayerCount() + "/" + GameConfig.Game.MIN_PLAYERS_TO_START);
+                        }
+                    } else {
+                        log("Player " + msg.playerData.playerId + " already exists, updating character image");
+                        coreDataManager.updatePlayer(msg.playerData.playerId, player -> player.updateCharacter(msg.playerData.characterImage));
+                        log("Updated character image for " + msg.playerData.playerId + " to " + msg.playerData.characterImage);
+                        stateSync.markDirty(msg.playerData.playerId);
+                        broadcastMessage(msg, sender);
+                    }
+                }
+                break;
+
+            case PLAYER_MOVE:
+                coreDataManager.updatePlayerPosition(msg.playerData.playerId, msg.playerData.position);
+                log("Player moved: " + msg.playerData.playerId + " to " + msg.playerData.position);
+                stateSync.markDirty(msg.playerData.playerId);
+                break;
+
+            case PLAYER_UPDATE:
+                PlayerData updatePlayer = coreDataManager.updatePlayer(msg.playerData.playerId, player -> {
+                    player.money = msg.playerData.money;
+                    player.health = msg.playerData.health;
+                    player.energy = msg.playerData.energy;
+                    player.remainingTime = msg.playerData.remainingTime;
+                    player.position = msg.playerData.position;
+                    player.currentLocation = msg.playerData.currentLocation;
+                    player.characterImage = msg.playerData.characterImage;
+                    player.timestamp = System.currentTimeMillis();
+                });
+                if (updatePlayer != null) {
+                    log("Player updated: " + msg.playerData.playerId);
+                    stateSync.markDirty(msg.playerData.playerId);
+                }
+                break;
+
+            case PLAYER_STATS_UPDATE:
+                coreDataManager.updatePlayerStats(msg.playerData.playerId, msg.playerData.money, msg.playerData.health, msg.playerData.energy);
+                if (System.currentTimeMillis() % 3000 < 100) {
+                    log("Player stats updated: " + msg.playerData.playerId);
+                }
+                stateSync.markDirty(msg.playerData.playerId);
+                break;
+
+            case PLAYER_LOCATION_CHANGE:
+                coreDataManager.updatePlayerLocation(msg.playerData.playerId, msg.playerData.currentLocation);
+                log("Player location changed: " + msg.playerData.playerId + " to " + msg.playerData.currentLocation);
+                stateSync.markDirty(msg.playerData.playerId);
+                break;
+
+            case PLAYER_TIME_UPDATE:
+                coreDataManager.updatePlayerTime(msg.playerData.playerId, msg.playerData.remainingTime);
+                if (System.currentTimeMillis() % 5000 < 100) {
+                    log("Player time updated: " + msg.playerData.playerId + " to " + msg.playerData.remainingTime + " hours");
+                }
+                stateSync.markDirty(msg.playerData.playerId);
+                break;
+
+            case PLAYER_LEAVE:
+                String displayId = coreDataManager.getPlayerDisplayId(msg.playerData.playerId);
+                coreDataManager.removePlayer(msg.playerData.playerId);
+                clientConnections.remove(sender);
+                sessions.remove(msg.playerData.playerId);
+                suspendedUntil.remove(msg.playerData.playerId);
+                stateSync.markDirty(msg.playerData.playerId);
+                log("Player left: " + displayId + " (" + msg.playerData.playerId + ")");
+                broadcastMessage(msg, sender);
+                onPlayersChanged.run();
+                break;
+
+            case TURN_COMPLETE:
+                Debug.logServer("Room " + id + ": received turn complete from: " + msg.playerData.playerId);
+                coreDataManager.completeTurn(msg.playerData.playerId);
+
+                String newTurnPlayer = coreDataManager.getCurrentTurnPlayer();
+                if (newTurnPlayer != null) {
+                    NetworkMessage turnChangeMsg = NetworkMessage.createTurnChange(newTurnPlayer);
+                    broadcastMessage(turnChangeMsg, null);
+                    Debug.logServer("Room " + id + ": broadcasted turn change to: " + newTurnPlayer);
+                }
+                onPlayersChanged.run();
+                break;
+
+            case TURN_CHANGE:
+                log("Turn change message received (server initiated)");
+                break;
+
+            case HEARTBEAT:
+                break;
+
+            case RESUME:
+                resumeSession(msg, sender);
+                break;
+        }
+    }
+
+    private void openSession(String playerId, ClientConnection connection) {
+        if (connection.getProtocolVersion() == MessageCodec.LEGACY_VERSION) return;
+        String token = UUID.randomUUID().toString();
+        sessions.put(playerId, token);
+        connection.send(NetworkMessage.createSession(playerId, token, -1, id));
+    }
+
+    private void rejectJoin(String playerId, ClientConnection sender) {
+        log("Rejected join for existing player " + playerId + " from " + sender.getAddress());
+        if (sender.getProtocolVersion() != MessageCodec.LEGACY_VERSION) {
+            sender.send(NetworkMessage.createKicked(playerId, "Player id already in use"));
+        }
+        sender.close();
+    }
+
+    private void resumeSession(NetworkMessage msg, ClientConnection sender) {
+        String playerId = msg.playerData.playerId;
+        PlayerData player = coreDataManager.getPlayer(playerId);
+        if (player == null || msg.sessionToken == null || !msg.sessionToken.equals(sessions.get(playerId))) {
+            log("Rejected resume for " + playerId + " from " + sender.getAddress());
+            sender.send(NetworkMessage.createSession(playerId, null, -1, id));
+            return;
+        }
+
+        for (Map.Entry<ClientConnection, String> connEntry : clientConnections.entrySet()) {
+            if (connEntry.getValue().equals(playerId) && connEntry.getKey() != sender) {
+                clientConnections.remove(connEntry.getKey());
+                connEntry.getKey().close();
+            }
+        }
+        suspendedUntil.remove(playerId);
+        clientConnections.put(sender, playerId);
+
+        Map<String, PlayerData> baseline = stateSync.getSnapshot(msg.sequence);
+        int baselineSequence = baseline != null ? msg.sequence : -1;
+        sender.send(NetworkMessage.createSession(playerId, msg.sessionToken, baselineSequence, id));
+
+        Map<String, PlayerData> current = coreDataManager.getAllPlayers();
+        int joined = 0;
+        int left = 0;
+        for (PlayerData other : current.values()) {
+            if (!other.playerId.equals(playerId) && (baseline == null || !baseline.containsKey(other.playerId))) {
+                sender.send(NetworkMessage.createPlayerJoin(other));
+                joined++;
+            }
+        }
+        if (baseline != null) {
+            for (String otherId : baseline.keySet()) {
+                if (!otherId.equals(playerId) && !current.containsKey(otherId)) {
+                    sender.send(NetworkMessage.createPlayerLeave(otherId));
+                    left++;
+                }
+            }
+        }
+        String currentTurn = coreDataManager.getCurrentTurnPlayer();
+        if (currentTurn != null) {
+            sender.send(NetworkMessage.createTurnChange(currentTurn));
+        }
+        sender.acknowledgeSnapshot(baselineSequence);
+
+        log("Player resumed: " + playerId + " (" + sender.getAddress() + ") from "
+                + (baseline != null ? "snapshot " + baselineSequence : "full state")
+                + ", replayed " + joined + " join(s) and " + left + " leave(s)");
+        onPlayersChanged.run();
+    }
+
+    private void evictPlayer(PlayerData player) {
+        coreDataManager.removePlayer(player.playerId);
+        suspendedUntil.remove(player.playerId);
+        sessions.remove(player.playerId);
+        stateSync.markDirty(player.playerId);
+
+        NetworkMessage leaveMsg = new NetworkMessage(NetworkMessage.MessageType.PLAYER_LEAVE, player);
+        broadcastMessage(leaveMsg, null);
+        onPlayersChanged.run();
+    }
+
+    private void broadcastMessage(NetworkMessage msg, ClientConnection exclude) {
+        EncodedMessage encoded = new EncodedMessage(msg);
+        for (ClientConnection client : clientConnections.keySet()) {
+            if (client != exclude && !client.isClosed()) {
+                client.send(encoded);
+            }
+        }
+    }
+
+    private void removeExpiredSessions() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Long> entry : suspendedUntil.entrySet()) {
+            if (now >= entry.getValue()) {
+                PlayerData player = coreDataManager.getPlayer(entry.getKey());
+                log("Session expired: " + entry.getKey());
+                if (player != null) {
+                    evictPlayer(player);
+                } else {
+                    suspendedUntil.remove(entry.getKey());
+                    sessions.remove(entry.getKey());
+                }
+            }
+        }
+        manager.closeIfEmpty(this);
+    }
+
+    private void log(String message) {
+        logger.accept("[Room " + id + "] " + message);
+    }
+}
@@ -1,21 +1,27 @@
 package network;
 
 import core.GameConfig;
-import core.CoreDataManager;
-import core.Debug;
 import java.awt.*;
 import java.io.*;
-import java.net.*;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import javax.swing.*;
+import javax.swing.text.BadLocationException;
+import util.AssetCache;
+import util.LogRingBuffer;
 
-public class GameServer extends JFrame {
+public class GameServer extends JFrame implements GameServerCore.Listener {
     private static final long serialVersionUID = 1L;
-    private ServerSocket serverSocket;
-    private final Map<Socket, String> clientConnections = new ConcurrentHashMap<>();
-    private final Map<Socket, ObjectOutputStream> clientOutputs = new ConcurrentHashMap<>();
-    private final Map<String, Long> playerLastSeen = new ConcurrentHashMap<>();
+    private static final DateTimeFormatter LOG_TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss").withZone(ZoneId.systemDefault());
+    private final GameServerCore server = new GameServerCore(GameConfig.Network.SERVER_PORT, this);
+    private final LogRingBuffer logBuffer = new LogRingBuffer(GameConfig.Network.SERVER_LOG_CAPACITY);
+    private final StringBuilder logBatch = new StringBuilder();
+    private long logCursor = 0;
+    private long logSecond = -1;
+    private String logTime = "";
+    private javax.swing.Timer logTimer;
     private JTextArea logArea;
     private JLabel playerCountLabel;
     private JButton startBtn;
@@ -24,11 +30,7 @@ public class GameServer extends JFrame {
     private DefaultListModel<String> playerListModel;
     private JButton kickBtn;
     private JLabel waitingLabel;
-    private boolean isRunning = false;
-    private boolean gameStarted = false;
-    private javax.swing.Timer cleanupTimer;
-
-    private CoreDataManager coreDataManager;
+    private JLabel queueLabel;
     
     public GameServer() {
         setTitle("Game Server - Debug");
@@ -36,8 +38,9 @@ public class GameServer extends JFrame {
         setSize(GameConfig.Window.WIDTH_SERVER, GameConfig.Window.HEIGHT_SERVER);
         setLocationRelativeTo(null);
         
-        coreDataManager = CoreDataManager.getInstance();
         setupUI();
+        logTimer = new javax.swing.Timer(GameConfig.Network.SERVER_LOG_REFRESH_INTERVAL, e -> flushLog());
+        logTimer.start();
     }
     
     private void setupUI() {
@@ -50,6 +53,7 @@ public class GameServer extends JFrame {
         stopBtn = new JButton("Stop Server");
         playerCountLabel = new JLabel("Players: 0");
         waitingLabel = new JLabel("Waiting for players...");
+        queueLabel = new JLabel("Queue: 0");
         
         stopBtn.setEnabled(false);
         
@@ -62,6 +66,8 @@ public class GameServer extends JFrame {
         topPanel.add(playerCountLabel);
         topPanel.add(Box.createHorizontalStrut(20));
         topPanel.add(waitingLabel);
+        topPanel.add(Box.createHorizontalStrut(20));
+        topPanel.add(queueLabel);
         
 
         JSplitPane centerSplit = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT);
@@ -102,312 +108,98 @@ public class GameServer extends JFrame {
     }
     
     private void startServer() {
-        if (isRunning) return;
-        
-        new Thread(() -> {
-            try {
-                serverSocket = new ServerSocket(GameConfig.Network.SERVER_PORT);
-                isRunning = true;
-                log("Server started on port " + GameConfig.Network.SERVER_PORT);
-                
-                SwingUtilities.invokeLater(() -> {
-                    startBtn.setEnabled(false);
-                    startBtn.setText("Server Running");
-                    stopBtn.setEnabled(true);
-                });
-
-                startCleanupTimer();
-
-                while (isRunning) {
-                    Socket client = serverSocket.accept();
-                    log("Client connected: " + client.getInetAddress());
-                    handleClient(client);
-                }
-            } catch (IOException e) {
-                if (isRunning) {
-                    log("Server error: " + e.getMessage());
-                }
-            }
-        }).start();
-    }
-    
-    private void stopServer() {
-        isRunning = false;
-        stopCleanupTimer();
+        if (server.isRunning()) return;
 
         try {
-            if (serverSocket != null) {
-                serverSocket.close();
-            }
-            for (Socket client : clientConnections.keySet()) {
-                client.close();
-            }
-            clientConnections.clear();
-            playerLastSeen.clear();
-            coreDataManager.reset();
-            log("Server stopped");
-            updatePlayerCount();
-            updatePlayerList();
-
+            server.start();
             SwingUtilities.invokeLater(() -> {
-                startBtn.setEnabled(true);
-                startBtn.setText("Start Server");
-                stopBtn.setEnabled(false);
+                startBtn.setEnabled(false);
+                startBtn.setText("Server Running");
+                stopBtn.setEnabled(true);
             });
         } catch (IOException e) {
-            log("Stop error: " + e.getMessage());
+            log("Server error: " + e.getMessage());
         }
     }
-    
-    private void handleClient(Socket client) {
-        new Thread(() -> {
-            ObjectOutputStream out = null;
-            ObjectInputStream in = null;
-            String clientId = client.getInetAddress().toString() + ":" + client.getPort();
 
-            try {
-                out = new ObjectOutputStream(client.getOutputStream());
-                in = new ObjectInputStream(client.getInputStream());
-                clientOutputs.put(client, out);
+    private void stopServer() {
+        server.stop();
 
-                log("Client connected: " + clientId);
-                Thread.sleep(100);
-                
-                for (PlayerData player : coreDataManager.getAllPlayers().values()) {
-                    if (player != null) {
-                        NetworkMessage joinMsg = NetworkMessage.createPlayerJoin(player);
-                        out.writeObject(joinMsg);
-                        out.flush();
-                        String displayId = coreDataManager.getPlayerDisplayId(player.playerId);
-                        log("Sent existing player data to " + clientId + ": " + displayId + " (" + player.playerId + ")");
-                    }
-                }
-                
-                while (isRunning && !client.isClosed()) {
-                    try {
-                        NetworkMessage msg = (NetworkMessage) in.readObject();
-                        if (msg != null) {
-                            log("Received message from " + clientId + ": " + msg.type);
-                            handleMessage(msg, client, out);
-                        }
-                    } catch (java.io.EOFException e) {
-                        log("Client " + clientId + " disconnected (EOF)");
-                        break;
-                    } catch (java.net.SocketException e) {
-                        log("Client " + clientId + " disconnected (Socket)");
-                        break;
-                    } catch (java.io.IOException e) {
-                        log("Client " + clientId + " IO error: " + e.getMessage());
-                        break;
-                    }
-                }
-            } catch (Exception e) {
-                log("Client handler error for " + clientId + ": " + e.getMessage());
-            } finally {
-                try {
-                    String playerId = clientConnections.get(client);
-                    if (playerId != null) {
-                        PlayerData player = coreDataManager.getPlayer(playerId);
-                        if (player != null) {
-                            coreDataManager.removePlayer(playerId);
-                            log("Player disconnected: " + playerId + " (" + clientId + ")");
-                            
-                            NetworkMessage leaveMsg = new NetworkMessage(NetworkMessage.MessageType.PLAYER_LEAVE, player);
-                            broadcastMessage(leaveMsg, null);
-                            updatePlayerCount();
-                            updatePlayerList();
-                        }
-                        clientConnections.remove(client);
-                    }
-                    clientOutputs.remove(client);
-                    if (out != null) {
-                        out.close();
-                    }
-                    if (in != null) {
-                        in.close();
-                    }
-                    client.close();
-                    log("Client " + clientId + " cleanup completed");
-                } catch (IOException e) {
-                    log("Close client error for " + clientId + ": " + e.getMessage());
-                }
-            }
-        }).start();
+        SwingUtilities.invokeLater(() -> {
+            startBtn.setEnabled(true);
+            startBtn.setText("Start Server");
+            stopBtn.setEnabled(false);
+        });
     }
-    
-    private void handleMessage(NetworkMessage msg, Socket sender, ObjectOutputStream senderOut) {
-        if (msg == null || msg.playerData == null) {
-            log("Received null message or playerData");
-            return;
-        }
-        
-        switch (msg.type) {
-            case PLAYER_JOIN:
-                if (msg.playerData.playerId != null && !msg.playerData.playerId.isEmpty()) {
-                    PlayerData existingPlayer = coreDataManager.getPlayer(msg.playerData.playerId);
-                    if (existingPlayer == null) {
-                        PlayerData newPlayer = coreDataManager.addPlayer(
-                            msg.playerData.playerId, 
-                            msg.playerData.playerName, 
-                            msg.playerData.position, 
-                            msg.playerData.characterImage
-                        );
-                        clientConnections.put(sender, msg.playerData.playerId);
-                        playerLastSeen.put(msg.playerData.playerId, System.currentTimeMillis());
-                        String displayId = coreDataManager.getPlayerDisplayId(msg.playerData.playerId);
-                        Debug.logServer("Player joined: " + msg.playerData.playerName + " (" + displayId + ") at " + msg.playerData.position);
-                        Debug.logServer("Total players now: " + coreDataManager.getPlayerCount());
-                        broadcastMessage(msg, sender);
-                        updatePlayerCount();
-                        updatePlayerList();
-                        
-                        if (coreDataManager.canStartGame() && coreDataManager.getCurrentTurnPlayer() == null) {
-                            Debug.logServer("🎮 Starting game with " + coreDataManager.getPlayerCount() + " players");
-                            coreDataManager.startGame();
-                            
-                            for (PlayerData player : coreDataManager.getAllPlayers().values()) {
-                                NetworkMessage playerMsg = NetworkMessage.createPlayerJoin(player);
-                                broadcastMessage(playerMsg, null);
-                                Debug.logServer("📤 Sent player data to all clients: " + player.playerName + " (" + player.playerId + ")");
-                            }
-                            
-                            String currentTurn = coreDataManager.getCurrentTurnPlayer();
-                            if (currentTurn != null) {
-                                NetworkMessage turnMsg = NetworkMessage.createTurnChange(currentTurn);
-                                broadcastMessage(turnMsg, null);
-                                Debug.logServer("🎯 Broadcasted game start turn: " + currentTurn);
-                            }
-                        } else {
-                            Debug.logServer("⏳ Waiting for more players to start game: " + coreDataManager.getPlayerCount() + "/" + GameConfig.Game.MIN_PLAYERS_TO_START);
-                        }
-                    } else {
-                        log("Player " + msg.playerData.playerId + " already exists, updating character image");
-                        existingPlayer.updateCharacter(msg.playerData.characterImage);
-                        log("Updated character image for " + msg.playerData.playerId + " to " + msg.playerData.characterImage);
-                        broadcastMessage(msg, sender);
-                    }
-                }
-                break;
-                
-            case PLAYER_MOVE:
-                coreDataManager.updatePlayerPosition(msg.playerData.playerId, msg.playerData.position);
-                log("Player moved: " + msg.playerData.playerId + " to " + msg.playerData.position);
-                broadcastMessage(msg, sender);
-                break;
-                
-            case PLAYER_UPDATE:
-                PlayerData updatePlayer = coreDataManager.getPlayer(msg.playerData.playerId);
-                if (updatePlayer != null) {
-                    updatePlayer.money = msg.playerData.money;
-                    updatePlayer.health = msg.playerData.health;
-                    updatePlayer.energy = msg.playerData.energy;
-                    updatePlayer.remainingTime = msg.playerData.remainingTime;
-                    updatePlayer.position = msg.playerData.position;
-                    updatePlayer.currentLocation = msg.playerData.currentLocation;
-                    updatePlayer.characterImage = msg.playerData.characterImage;
-                    log("Player updated: " + msg.playerData.playerId);
-                    broadcastMessage(msg, sender);
-                }
-                break;
-                
-            case PLAYER_STATS_UPDATE:
-                coreDataManager.updatePlayerStats(msg.playerData.playerId, msg.playerData.money, msg.playerData.health, msg.playerData.energy);
-                if (System.currentTimeMillis() % 3000 < 100) {
-                    log("Player stats updated: " + msg.playerData.playerId);
-                }
-                broadcastMessage(msg, sender);
-                break;
-                
-            case PLAYER_LOCATION_CHANGE:
-                coreDataManager.updatePlayerLocation(msg.playerData.playerId, msg.playerData.currentLocation);
-                log("Player location changed: " + msg.playerData.playerId + " to " + msg.playerData.currentLocation);
-                broadcastMessage(msg, sender);
-                break;
-                
-            case PLAYER_TIME_UPDATE:
-                coreDataManager.updatePlayerTime(msg.playerData.playerId, msg.playerData.remainingTime);
-                if (System.currentTimeMillis() % 5000 < 100) {
-                    log("Player time updated: " + msg.playerData.playerId + " to " + msg.playerData.remainingTime + " hours");
-                }
-                broadcastMessage(msg, sender);
-                break;
-                
-            case PLAYER_LEAVE:
-                String displayId = coreDataManager.getPlayerDisplayId(msg.playerData.playerId);
-                coreDataManager.removePlayer(msg.playerData.playerId);
-                clientConnections.remove(sender);
-                log("Player left: " + displayId + " (" + msg.playerData.playerId + ")");
-                broadcastMessage(msg, sender);
-                updatePlayerCount();
-                break;
-                
-            case TURN_COMPLETE:
-                Debug.logServer("Received turn complete from: " + msg.playerData.playerId);
-                coreDataManager.completeTurn(msg.playerData.playerId);
-      
-                String newTurnPlayer = coreDataManager.getCurrentTurnPlayer();
-                if (newTurnPlayer != null) {
-                    NetworkMessage turnChangeMsg = NetworkMessage.createTurnChange(newTurnPlayer);
-                    broadcastMessage(turnChangeMsg, null);
-                    Debug.logServer("Broadcasted turn change to: " + newTurnPlayer);
-                }
-                break;
-                
-            case TURN_CHANGE:
-                log("Turn change message received (server initiated)");
-                break;
 
-            case HEARTBEAT:
-                playerLastSeen.put(msg.playerData.playerId, System.currentTimeMillis());
-                break;
-        }
+    @Override
+    public void onLog(String message) {
+        log(message);
     }
-    
-    private void broadcastMessage(NetworkMessage msg, Socket exclude) {
-        java.util.List<Socket> toRemove = new java.util.ArrayList<>();
-        for (Map.Entry<Socket, String> entry : clientConnections.entrySet()) {
-            Socket client = entry.getKey();
-            if (client != exclude && !client.isClosed()) {
-                try {
-                    ObjectOutputStream out = clientOutputs.get(client);
-                    if (out != null) {
-                        out.writeObject(msg);
-                        out.flush();
-                    }
-                } catch (IOException e) {
-                    log("Broadcast error to " + entry.getValue() + ": " + e.getMessage());
-                    toRemove.add(client);
-                }
+
+    @Override
+    public void onPlayersChanged() {
+        updatePlayerCount();
+        updatePlayerList();
+    }
+
+    @Override
+    public void onQueueMetrics(String summary) {
+        SwingUtilities.invokeLater(() -> queueLabel.setText(summary));
+    }
+
+    private void log(String message) {
+        logBuffer.add(message);
+    }
+
+    private void flushLog() {
+        if (logBuffer.getWritten() == logCursor) return;
+
+        logBatch.setLength(0);
+        logCursor = logBuffer.readSince(logCursor,
+                skipped -> logBatch.append("... ").append(skipped).append(" log lines dropped\n"),
+                (timestamp, message) -> logBatch.append('[').append(formatLogTime(timestamp)).append("] ").append(message).append('\n'));
+
+        logArea.append(logBatch.toString());
+        int excess = logArea.getLineCount() - GameConfig.Network.SERVER_LOG_MAX_LINES;
+        if (excess > 0) {
+            try {
+                logArea.replaceRange("", 0, logArea.getLineEndOffset(excess - 1));
+            } catch (BadLocationException e) {
+                logArea.setText("");
             }
         }
-        
-        for (Socket client : toRemove) {
-            clientOutputs.remove(client);
-            clientConnections.remove(client);
-        }
+        logArea.setCaretPosition(logArea.getDocument().getLength());
     }
-    
-    private void log(String message) {
-        SwingUtilities.invokeLater(() -> {
-            String timestamp = new java.text.SimpleDateFormat("HH:mm:ss").format(new Date());
-            logArea.append("[" + timestamp + "] " + message + "\n");
-            logArea.setCaretPosition(logArea.getDocument().getLength());
-        });
+
+    private String formatLogTime(long timestamp) {
+        long second = timestamp / 1000;
+        if (second != logSecond) {
+            logSecond = second;
+            logTime = LOG_TIME_FORMAT.format(Instant.ofEpochMilli(timestamp));
+        }
+        return logTime;
     }
     
     private void updatePlayerCount() {
         SwingUtilities.invokeLater(() -> {
-            int playerCount = coreDataManager.getPlayerCount();
-            playerCountLabel.setText("Players: " + playerCount);
+            java.util.List<GameRoom> rooms = server.getRooms();
+            int playerCount = 0;
+            int runningRooms = 0;
+            for (GameRoom room : rooms) {
+                playerCount += room.getDataManager().getPlayerCount();
+                if (room.getDataManager().getCurrentTurnPlayer() != null) {
+                    runningRooms++;
+                }
+            }
+            playerCountLabel.setText("Players: " + playerCount + " (rooms: " + rooms.size() + ")");
 
-            if (playerCount >= GameConfig.Game.MIN_PLAYERS_TO_START) {
-                waitingLabel.setText("Ready to start! (" + playerCount + "/" + GameConfig.Game.MIN_PLAYERS_TO_START + ")");
+            if (runningRooms > 0) {
+                waitingLabel.setText("Running: " + runningRooms + " room(s), waiting: " + (rooms.size() - runningRooms));
                 waitingLabel.setForeground(Color.GREEN);
-                gameStarted = true;
             } else {
                 waitingLabel.setText("Waiting for players... (" + playerCount + "/" + GameConfig.Game.MIN_PLAYERS_TO_START + ")");
                 waitingLabel.setForeground(Color.ORANGE);
-                gameStarted = false;
             }
         });
     }
@@ -415,99 +207,35 @@ public class GameServer extends JFrame {
     private void updatePlayerList() {
         SwingUtilities.invokeLater(() -> {
             playerListModel.clear();
-            String currentTurn = coreDataManager.getCurrentTurnPlayer();
-            for (PlayerData player : coreDataManager.getAllPlayers().values()) {
-                String displayId = coreDataManager.getPlayerDisplayId(player.playerId);
-                String turnIndicator = (currentTurn != null && currentTurn.equals(player.playerId)) ? " [TURN]" : "";
-                playerListModel.addElement(displayId + ": " + player.playerName + turnIndicator);
+            for (String entry : server.describePlayers()) {
+                playerListModel.addElement(entry);
             }
         });
     }
-    
-    private void kickSelectedPlayer() {
-        String selected = playerList.getSelectedValue();
-        if (selected == null) return;
-        
-        String displayId = selected.substring(0, selected.indexOf(":"));
-        
-        for (PlayerData player : coreDataManager.getAllPlayers().values()) {
-            String playerDisplayId = coreDataManager.getPlayerDisplayId(player.playerId);
-            if (playerDisplayId.equals(displayId)) {
-                for (Map.Entry<Socket, String> connEntry : clientConnections.entrySet()) {
-                    if (connEntry.getValue().equals(player.playerId)) {
-                        try {
-                            connEntry.getKey().close();
-                            log("Kicked player: " + displayId + " (" + player.playerId + ")");
-                        } catch (IOException e) {
-                            log("Error kicking player: " + e.getMessage());
-                        }
-                        break;
-                    }
-                }
-                break;
-            }
-        }
-    }
-    
-    private void startCleanupTimer() {
-        if (cleanupTimer != null) {
-            cleanupTimer.stop();
-        }
 
-        cleanupTimer = new javax.swing.Timer(5000, e -> cleanupStaleConnections());
-        cleanupTimer.start();
-        log("Cleanup timer started");
-    }
-
-    private void stopCleanupTimer() {
-        if (cleanupTimer != null) {
-            cleanupTimer.stop();
-            cleanupTimer = null;
-            log("Cleanup timer stopped");
+    private GameRoom findRoom(String entry) {
+        if (!entry.startsWith("R") || entry.indexOf(' ') < 0) return null;
+        try {
+            return server.getRoom(Integer.parseInt(entry.substring(1, entry.indexOf(' '))));
+        } catch (NumberFormatException e) {
+            return null;
         }
     }
 
-    private void cleanupStaleConnections() {
-        long now = System.currentTimeMillis();
-        java.util.List<String> toRemove = new java.util.ArrayList<>();
-
-        for (Map.Entry<String, Long> entry : playerLastSeen.entrySet()) {
-            if (now - entry.getValue() > GameConfig.Network.CONNECTION_TIMEOUT) {
-                toRemove.add(entry.getKey());
-            }
-        }
-
-        for (String playerId : toRemove) {
-            PlayerData player = coreDataManager.getPlayer(playerId);
-            if (player != null) {
-                String displayId = coreDataManager.getPlayerDisplayId(playerId);
-                log("Removing stale connection: " + displayId + " (" + playerId + ")");
-
-                for (Map.Entry<Socket, String> connEntry : clientConnections.entrySet()) {
-                    if (connEntry.getValue().equals(playerId)) {
-                        try {
-                            connEntry.getKey().close();
-                        } catch (IOException ex) {
-                            log("Error closing stale socket: " + ex.getMessage());
-                        }
-                        clientConnections.remove(connEntry.getKey());
-                        clientOutputs.remove(connEntry.getKey());
-                        break;
-                    }
-                }
-
-                coreDataManager.removePlayer(playerId);
-                playerLastSeen.remove(playerId);
-
-                NetworkMessage leaveMsg = new NetworkMessage(NetworkMessage.MessageType.PLAYER_LEAVE, player);
-                broadcastMessage(leaveMsg, null);
+    private String findDisplayId(String entry) {
+        return entry.substring(entry.indexOf(' ') + 1, entry.indexOf(':'));
+    }
+    
+    private void kickSelectedPlayer() {
+        String selected = playerList.getSelectedValue();
+        if (selected == null) return;
 
-                updatePlayerCount();
-                updatePlayerList();
-            }
+        GameRoom room = findRoom(selected);
+        if (room != null) {
+            room.kick(findDisplayId(selected));
         }
     }
-
+    
     private class PlayerListCellRenderer extends JLabel implements ListCellRenderer<String> {
         private ImageIcon male01Icon;
         private ImageIcon male02Icon;
@@ -517,10 +245,10 @@ public class GameServer extends JFrame {
         public PlayerListCellRenderer() {
             setOpaque(true);
             try {
-                male01Icon = new ImageIcon("assets/players/Male-01.png");
-                male02Icon = new ImageIcon("assets/players/Male-02.png");
-                female01Icon = new ImageIcon("assets/players/Female-01.png");
-                female02Icon = new ImageIcon("assets/players/Female-02.png");
+                male01Icon = new ImageIcon(AssetCache.load("assets/players/Male-01.png"));
+                male02Icon = new ImageIcon(AssetCache.load("assets/players/Male-02.png"));
+                female01Icon = new ImageIcon(AssetCache.load("assets/players/Female-01.png"));
+                female02Icon = new ImageIcon(AssetCache.load("assets/players/Female-02.png"));
             } catch (Exception e) {
                 System.out.println("Could not load player icons: " + e.getMessage());
             }
@@ -533,21 +261,18 @@ public class GameServer extends JFrame {
             
             if (value != null && value.contains("(") && value.contains(")")) {
                 try {
-                    String displayId = value.substring(0, value.indexOf(":"));
-                    for (PlayerData player : coreDataManager.getAllPlayers().values()) {
-                        String playerDisplayId = coreDataManager.getPlayerDisplayId(player.playerId);
-                        if (playerDisplayId.equals(displayId)) {
-                            String characterImage = player.characterImage;
-                            if (characterImage.contains("Male-01")) {
-                                setIcon(male01Icon);
-                            } else if (characterImage.contains("Male-02")) {
-                                setIcon(male02Icon);
-                            } else if (characterImage.contains("Female-01")) {
-                                setIcon(female01Icon);
-                            } else if (characterImage.contains("Female-02")) {
-                                setIcon(female02Icon);
-                            }
-                            break;
+                    GameRoom room = findRoom(value);
+                    PlayerData player = room != null ? room.findPlayerByDisplayId(findDisplayId(value)) : null;
+                    if (player != null) {
+                        String characterImage = player.characterImage;
+                        if (characterImage.contains("Male-01")) {
+                            setIcon(male01Icon);
+                        } else if (characterImage.contains("Male-02")) {
+                            setIcon(male02Icon);
+                        } else if (characterImage.contains("Female-01")) {
+                            setIcon(female01Icon);
+                        } else if (characterImage.contains("Female-02")) {
+                            setIcon(female02Icon);
                         }
                     }
                 } catch (Exception e) {
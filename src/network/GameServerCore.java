@@ -0,0 +1,237 @@
+package network;
+
+import core.GameConfig;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import util.ThreadFactories;
+import util.TimingWheel;
+
+public class GameServerCore {
+    public interface Listener {
+        void onLog(String message);
+
+        void onPlayersChanged();
+
+        void onQueueMetrics(String summary);
+    }
+
+    private final int port;
+    private final Listener listener;
+    private SelectorLoop selectorLoop;
+    private RoomManager roomManager;
+    private ScheduledExecutorService tickExecutor;
+    private TimingWheel<ClientConnection> deadlines;
+    private volatile boolean running = false;
+    private long lastReportedOverflow = 0;
+
+    public GameServerCore(int port, Listener listener) {
+        this.port = port;
+        this.listener = listener;
+    }
+
+    public synchronized void start() throws IOException {
+        if (running) return;
+
+        try {
+            roomManager = new RoomManager(GameConfig.Network.ROOM_SHARDS, listener::onLog, listener::onPlayersChanged);
+            deadlines = new TimingWheel<>(GameConfig.Network.DEADLINE_WHEEL_TICK,
+                    GameConfig.Network.DEADLINE_WHEEL_SLOTS, System.currentTimeMillis());
+            selectorLoop = new SelectorLoop(port, new ConnectionHandler());
+            selectorLoop.start();
+            running = true;
+            log("Server started on port " + port);
+
+            tickExecutor = Executors.newSingleThreadScheduledExecutor(
+                    ThreadFactories.named(ThreadFactories.Mode.PLATFORM, "Server-Tick"));
+            tickExecutor.scheduleAtFixedRate(this::runTick, GameConfig.Network.BROADCAST_INTERVAL,
+                    GameConfig.Network.BROADCAST_INTERVAL, TimeUnit.MILLISECONDS);
+            tickExecutor.scheduleAtFixedRate(this::runCleanup, GameConfig.Network.CLEANUP_INTERVAL,
+                    GameConfig.Network.CLEANUP_INTERVAL, TimeUnit.MILLISECONDS);
+            tickExecutor.scheduleAtFixedRate(this::expireConnections, GameConfig.Network.DEADLINE_WHEEL_TICK,
+                    GameConfig.Network.DEADLINE_WHEEL_TICK, TimeUnit.MILLISECONDS);
+        } catch (IOException e) {
+            shutdownExecutors();
+            throw e;
+        }
+    }
+
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+
+        if (selectorLoop != null) {
+            selectorLoop.stop();
+            selectorLoop = null;
+        }
+        deadlines = null;
+        shutdownExecutors();
+
+        log("Server stopped");
+        listener.onPlayersChanged();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public List<GameRoom> getRooms() {
+        RoomManager rooms = roomManager;
+        return rooms != null ? rooms.getRooms() : List.of();
+    }
+
+    public GameRoom getRoom(int roomId) {
+        RoomManager rooms = roomManager;
+        return rooms != null ? rooms.getRoom(roomId) : null;
+    }
+
+    public List<String> describePlayers() {
+        List<String> entries = new ArrayList<>();
+        for (GameRoom room : getRooms()) {
+            entries.addAll(room.describePlayers());
+        }
+        return entries;
+    }
+
+    public int getPlayerCount() {
+        int playerCount = 0;
+        for (GameRoom room : getRooms()) {
+            playerCount += room.getDataManager().getPlayerCount();
+        }
+        return playerCount;
+    }
+
+    public boolean kick(int roomId, String displayId) {
+        GameRoom room = getRoom(roomId);
+        return room != null && room.kick(displayId).join();
+    }
+
+    public String describeQueues() {
+        RoomManager rooms = roomManager;
+        int totalDepth = 0;
+        int maxDepth = 0;
+        long dropped = 0;
+        long coalesced = 0;
+        if (rooms != null) {
+            for (ClientConnection client : rooms.getConnections()) {
+                OutboundQueue queue = client.getOutboundQueue();
+                totalDepth += queue.getDepth();
+                maxDepth = Math.max(maxDepth, queue.getMaxDepth());
+                dropped += queue.getDroppedFrames();
+                coalesced += queue.getCoalescedFrames();
+            }
+        }
+        if (dropped + coalesced != lastReportedOverflow) {
+            lastReportedOverflow = dropped + coalesced;
+            log("Queue overflow: dropped " + dropped + ", coalesced " + coalesced);
+        }
+        return "Queue: " + totalDepth + " (peak " + maxDepth + "/" + GameConfig.Network.OUTBOUND_QUEUE_CAPACITY
+                + ", dropped " + dropped + ", coalesced " + coalesced + ")";
+    }
+
+    private void shutdownExecutors() {
+        if (tickExecutor != null) {
+            tickExecutor.shutdown();
+            tickExecutor = null;
+        }
+        if (roomManager != null) {
+            roomManager.shutdown();
+            roomManager = null;
+        }
+    }
+
+    private void runTick() {
+        RoomManager rooms = roomManager;
+        if (rooms != null) {
+            rooms.tick();
+        }
+    }
+
+    private void runCleanup() {
+        try {
+            RoomManager rooms = roomManager;
+            if (rooms != null) {
+                rooms.expireSessions();
+            }
+            listener.onQueueMetrics(describeQueues());
+        } catch (RuntimeException e) {
+            log("Cleanup error: " + e.getMessage());
+        }
+    }
+
+    private void expireConnections() {
+        TimingWheel<ClientConnection> wheel = deadlines;
+        SelectorLoop loop = selectorLoop;
+        if (wheel == null || loop == null) return;
+        for (ClientConnection connection : wheel.advance(System.currentTimeMillis())) {
+            loop.requestClose(connection, "No traffic for " + GameConfig.Network.CONNECTION_TIMEOUT / 1000 + "s");
+        }
+    }
+
+    private void touch(ClientConnection connection) {
+        TimingWheel<ClientConnection> wheel = deadlines;
+        if (wheel != null) {
+            wheel.touch(connection, System.currentTimeMillis() + GameConfig.Network.CONNECTION_TIMEOUT);
+        }
+    }
+
+    private void log(String message) {
+        listener.onLog(message);
+    }
+
+    private class ConnectionHandler implements SelectorLoop.Handler {
+        @Override
+        public void onConnect(ClientConnection connection) {
+            RoomManager rooms = roomManager;
+            if (rooms == null) return;
+            GameRoom room = rooms.assign(connection);
+            touch(connection);
+            log("Client connected: " + connection.getAddress() + " -> room " + room.getId());
+        }
+
+        @Override
+        public void onActivity(ClientConnection connection) {
+            touch(connection);
+        }
+
+        @Override
+        public void onMessage(ClientConnection connection, NetworkMessage msg) {
+            RoomManager rooms = roomManager;
+            if (rooms == null) return;
+            GameRoom room = msg.type == NetworkMessage.MessageType.RESUME
+                    ? rooms.moveToSession(connection, msg.sessionToken, msg.roomId) : null;
+            if (room == null) {
+                room = rooms.getRoom(connection);
+            }
+            if (room != null) {
+                room.onMessage(connection, msg);
+            }
+        }
+
+        @Override
+        public void onDisconnect(ClientConnection connection, String reason) {
+            log("Client " + connection.getAddress() + " disconnected (" + reason + ")");
+            TimingWheel<ClientConnection> wheel = deadlines;
+            if (wheel != null) {
+                wheel.cancel(connection);
+            }
+            RoomManager rooms = roomManager;
+            GameRoom room = rooms != null ? rooms.release(connection) : null;
+            if (room != null) {
+                room.onDisconnect(connection);
+            }
+        }
+
+        @Override
+        public void onError(String message) {
+            log("Server error: " + message);
+        }
+    }
+}
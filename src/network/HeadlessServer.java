@@ -0,0 +1,138 @@
+package network;
+
+import core.GameConfig;
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CountDownLatch;
+
+public class HeadlessServer implements GameServerCore.Listener {
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    private final PrintStream out;
+    private final GameServerCore server;
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    public HeadlessServer(int port, PrintStream out) {
+        this.out = out;
+        this.server = new GameServerCore(port, this);
+    }
+
+    @Override
+    public void onLog(String message) {
+        synchronized (out) {
+            out.println("[" + LocalTime.now().format(TIME_FORMAT) + "] " + message);
+        }
+    }
+
+    @Override
+    public void onPlayersChanged() {
+    }
+
+    @Override
+    public void onQueueMetrics(String summary) {
+    }
+
+    public void start() throws IOException {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop();
+        stopped.countDown();
+    }
+
+    public void runConsole() throws InterruptedException {
+        BufferedReader console = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        try {
+            String line;
+            while (server.isRunning() && (line = console.readLine()) != null) {
+                handleCommand(line.trim());
+            }
+        } catch (IOException e) {
+            onLog("Console error: " + e.getMessage());
+        }
+        stopped.await();
+    }
+
+    private void handleCommand(String line) {
+        if (line.isEmpty()) return;
+        String[] args = line.split("\\s+");
+
+        switch (args[0].toLowerCase()) {
+            case "players":
+                for (String entry : server.describePlayers()) {
+                    System.out.println(entry);
+                }
+                System.out.println(server.getPlayerCount() + " player(s)");
+                break;
+
+            case "rooms":
+                for (GameRoom room : server.getRooms()) {
+                    String turn = room.getDataManager().getCurrentTurnPlayer();
+                    System.out.println("Room " + room.getId() + ": " + room.getDataManager().getPlayerCount() + " player(s), "
+                            + room.getMemberCount() + " connection(s), phase " + room.getDataManager().getCurrentPhase()
+                            + (turn != null ? ", turn " + room.getDataManager().getPlayerDisplayId(turn) : ""));
+                }
+                break;
+
+            case "kick":
+                if (args.length != 3) {
+                    System.out.println("Usage: kick <room> <displayId>");
+                    break;
+                }
+                try {
+                    boolean kicked = server.kick(Integer.parseInt(args[1]), args[2].toUpperCase());
+                    System.out.println(kicked ? "Kicked " + args[2] + " from room " + args[1] : "No such player");
+                } catch (NumberFormatException e) {
+                    System.out.println("Invalid room: " + args[1]);
+                }
+                break;
+
+            case "stats":
+                Runtime runtime = Runtime.getRuntime();
+                System.out.println("Rooms: " + server.getRooms().size() + ", players: " + server.getPlayerCount());
+                System.out.println(server.describeQueues());
+                System.out.println("Heap: " + (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024) + "MB / "
+                        + runtime.maxMemory() / (1024 * 1024) + "MB, threads: " + Thread.activeCount());
+                break;
+
+            case "stop":
+            case "quit":
+                stop();
+                break;
+
+            case "help":
+                System.out.println("Commands: players, rooms, kick <room> <displayId>, stats, stop");
+                break;
+
+            default:
+                System.out.println("Unknown command: " + args[0] + " (try 'help')");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+
+        int port = GameConfig.Network.SERVER_PORT;
+        PrintStream out = System.out;
+        for (int i = 0; i < args.length; i++) {
+            if ("--port".equals(args[i]) && i + 1 < args.length) {
+                port = Integer.parseInt(args[++i]);
+            } else if ("--log".equals(args[i]) && i + 1 < args.length) {
+                out = new PrintStream(new FileOutputStream(args[++i], true), true, StandardCharsets.UTF_8);
+            }
+        }
+
+        HeadlessServer headless = new HeadlessServer(port, out);
+        Runtime.getRuntime().addShutdownHook(new Thread(headless::stop, "Server-Shutdown"));
+        headless.start();
+        headless.runConsole();
+        System.exit(0);
+    }
+}
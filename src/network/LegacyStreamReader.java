@@ -0,0 +1,105 @@
+package network;
+
+import core.GameConfig;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import util.ThreadFactories;
+
+class LegacyStreamReader extends InputStream implements Runnable {
+    private final ClientConnection connection;
+    private final SelectorLoop loop;
+    private final ArrayDeque<byte[]> chunks = new ArrayDeque<>();
+    private byte[] current;
+    private int position = 0;
+    private int buffered = 0;
+    private boolean closed = false;
+
+    LegacyStreamReader(ClientConnection connection, SelectorLoop loop) {
+        this.connection = connection;
+        this.loop = loop;
+    }
+
+    void start() {
+        Thread thread = ThreadFactories.named(ThreadFactories.Mode.PLATFORM, "Legacy-Reader-" + connection.getId()).newThread(this);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    synchronized void feed(ByteBuffer data) throws IOException {
+        if (!data.hasRemaining()) return;
+        if (buffered + data.remaining() > GameConfig.Network.LEGACY_STREAM_BACKLOG) {
+            throw new IOException("Legacy stream backlog exceeded");
+        }
+        byte[] chunk = new byte[data.remaining()];
+        data.get(chunk);
+        chunks.addLast(chunk);
+        buffered += chunk.length;
+        notifyAll();
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        chunks.clear();
+        current = null;
+        notifyAll();
+    }
+
+    @Override
+    public synchronized int read() throws IOException {
+        byte[] single = new byte[1];
+        return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public synchronized int read(byte[] target, int offset, int length) throws IOException {
+        if (length == 0) return 0;
+        while (current == null || position == current.length) {
+            if (closed) return -1;
+            current = chunks.pollFirst();
+            position = 0;
+            if (current == null) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Legacy reader interrupted");
+                }
+            }
+        }
+        int count = Math.min(length, current.length - position);
+        System.arraycopy(current, position, target, offset, count);
+        position += count;
+        buffered -= count;
+        return count;
+    }
+
+    @Override
+    public synchronized int available() {
+        return current != null ? current.length - position : 0;
+    }
+
+    @Override
+    public void run() {
+        try (ObjectInputStream in = new ObjectInputStream(this)) {
+            in.setObjectInputFilter(MessageCodec.LEGACY_STREAM_FILTER);
+            while (!connection.isClosed()) {
+                Object received = in.readObject();
+                if (!(received instanceof NetworkMessage msg)) {
+                    throw new IOException("Unexpected object: " + received.getClass().getName());
+                }
+                if (msg.type != NetworkMessage.MessageType.HELLO && msg.type != NetworkMessage.MessageType.SNAPSHOT_ACK) {
+                    loop.deliver(connection, msg);
+                }
+            }
+        } catch (EOFException e) {
+            loop.requestClose(connection, "EOF");
+        } catch (IOException | ClassNotFoundException e) {
+            loop.requestClose(connection, "Invalid legacy stream: " + e.getMessage());
+        }
+    }
+}
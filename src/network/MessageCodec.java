@@ -0,0 +1,375 @@
+package network;
+
+import core.GameConfig;
+import core.PlayerState;
+import java.awt.Point;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MessageCodec {
+    public static final int HEADER_SIZE = 4;
+    public static final int LEGACY_VERSION = 0;
+    public static final int PROTOCOL_VERSION = 3;
+    public static final int STREAM_HEADER_SIZE = 4;
+
+    private static final int SERIALIZATION_MAGIC = 0xAC;
+    private static final String LEGACY_CLASSES = "network.NetworkMessage;network.NetworkMessage$MessageType;"
+            + "network.PlayerData;core.PlayerState$Location;java.awt.Point;java.lang.Enum;java.lang.String;!*";
+    private static final ObjectInputFilter LEGACY_FRAME_FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=5;maxarray=0;maxrefs=64;maxbytes=" + GameConfig.Network.MAX_FRAME_SIZE + ";" + LEGACY_CLASSES);
+    public static final ObjectInputFilter LEGACY_STREAM_FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=5;maxarray=0;" + LEGACY_CLASSES);
+    private static final PlayerState.Location[] LOCATIONS = PlayerState.Location.values();
+
+    public static byte[] encode(NetworkMessage msg, int version) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(version == LEGACY_VERSION ? 512 : 64);
+        writePayload(bytes, msg, version);
+        return bytes.toByteArray();
+    }
+
+    public static NetworkMessage decode(byte[] payload, int offset, int length, boolean allowLegacy) throws IOException {
+        if (length == 0) {
+            throw new IOException("Empty message payload");
+        }
+        if ((payload[offset] & 0xFF) == SERIALIZATION_MAGIC) {
+            if (!allowLegacy) {
+                throw new IOException("Serialized payload not accepted after handshake");
+            }
+            return decodeLegacy(payload, offset, length);
+        }
+        return decodeBinary(new DataInputStream(new ByteArrayInputStream(payload, offset, length)));
+    }
+
+    public static ByteBuffer encodeFrame(NetworkMessage msg, int version) throws IOException {
+        if (version == LEGACY_VERSION) {
+            return ByteBuffer.wrap(encodeStreamChunk(msg));
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        bytes.write(new byte[HEADER_SIZE]);
+        writePayload(bytes, msg, version);
+
+        ByteBuffer frame = ByteBuffer.wrap(bytes.toByteArray());
+        frame.putInt(0, frame.capacity() - HEADER_SIZE);
+        return frame;
+    }
+
+    public static boolean isStreamHeader(ByteBuffer buffer) {
+        return buffer.remaining() >= 2
+                && buffer.getShort(buffer.position()) == ObjectStreamConstants.STREAM_MAGIC;
+    }
+
+    public static ByteBuffer streamHeader() {
+        ByteBuffer header = ByteBuffer.allocate(STREAM_HEADER_SIZE);
+        header.putShort(ObjectStreamConstants.STREAM_MAGIC);
+        header.putShort(ObjectStreamConstants.STREAM_VERSION);
+        header.flip();
+        return header;
+    }
+
+    private static byte[] encodeStreamChunk(NetworkMessage msg) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(msg);
+        }
+        byte[] stream = bytes.toByteArray();
+        byte[] chunk = new byte[stream.length - STREAM_HEADER_SIZE + 1];
+        chunk[0] = ObjectStreamConstants.TC_RESET;
+        System.arraycopy(stream, STREAM_HEADER_SIZE, chunk, 1, stream.length - STREAM_HEADER_SIZE);
+        return chunk;
+    }
+
+    public static void writeFrame(DataOutputStream out, NetworkMessage msg, int version) throws IOException {
+        byte[] payload = encode(msg, version);
+        out.writeInt(payload.length);
+        out.write(payload);
+    }
+
+    public static NetworkMessage readFrame(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        checkFrameLength(length);
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        return decode(payload, 0, length, false);
+    }
+
+    public static void checkFrameLength(int length) throws IOException {
+        if (length < 0 || length > GameConfig.Network.MAX_FRAME_SIZE) {
+            throw new IOException("Invalid frame length: " + length);
+        }
+    }
+
+    public static int negotiateVersion(int remoteVersion) {
+        return Math.max(LEGACY_VERSION, Math.min(remoteVersion, PROTOCOL_VERSION));
+    }
+
+    private static void writePayload(ByteArrayOutputStream bytes, NetworkMessage msg, int version) throws IOException {
+        if (version == LEGACY_VERSION) {
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(msg);
+            }
+        } else {
+            DataOutputStream out = new DataOutputStream(bytes);
+            encodeBinary(out, msg);
+            out.flush();
+        }
+    }
+
+    private static NetworkMessage decodeLegacy(byte[] payload, int offset, int length) throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload, offset, length))) {
+            in.setObjectInputFilter(LEGACY_FRAME_FILTER);
+            return (NetworkMessage) in.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Invalid message payload: " + e.getMessage(), e);
+        }
+    }
+
+    private static void encodeBinary(DataOutputStream out, NetworkMessage msg) throws IOException {
+        PlayerData data = msg.playerData;
+        out.writeByte(PROTOCOL_VERSION);
+        out.writeByte(msg.type.id);
+        out.writeLong(msg.timestamp);
+
+        switch (msg.type) {
+            case HELLO:
+                out.writeShort(msg.protocolVersion);
+                break;
+
+            case PLAYER_JOIN:
+            case PLAYER_UPDATE:
+                writeString(out, data.playerId);
+                writeString(out, data.playerName);
+                writePoint(out, data.position);
+                writeString(out, data.characterImage);
+                out.writeInt(data.money);
+                out.writeInt(data.health);
+                out.writeInt(data.energy);
+                out.writeInt(data.remainingTime);
+                writeLocation(out, data.currentLocation);
+                break;
+
+            case PLAYER_MOVE:
+                writeString(out, data.playerId);
+                writePoint(out, data.position);
+                break;
+
+            case PLAYER_STATS_UPDATE:
+                writeString(out, data.playerId);
+                out.writeInt(data.money);
+                out.writeInt(data.health);
+                out.writeInt(data.energy);
+                break;
+
+            case PLAYER_LOCATION_CHANGE:
+                writeString(out, data.playerId);
+                writeLocation(out, data.currentLocation);
+                break;
+
+            case PLAYER_TIME_UPDATE:
+                writeString(out, data.playerId);
+                out.writeInt(data.remainingTime);
+                break;
+
+            case GAME_STATE_UPDATE:
+                out.writeInt(data.playerCount);
+                out.writeBoolean(data.gameStarted);
+                writeString(out, data.currentTurnPlayer);
+                break;
+
+            case STATE_SNAPSHOT:
+                out.writeInt(msg.sequence);
+                out.writeInt(msg.baselineSequence);
+                out.writeShort(msg.deltas.size());
+                for (PlayerDelta delta : msg.deltas) {
+                    writeDelta(out, delta);
+                }
+                break;
+
+            case SNAPSHOT_ACK:
+                out.writeInt(msg.sequence);
+                break;
+
+            case RESUME:
+            case SESSION:
+                writeString(out, data.playerId);
+                writeString(out, msg.sessionToken);
+                out.writeInt(msg.sequence);
+                out.writeInt(msg.roomId);
+                break;
+
+            case KICKED:
+                writeString(out, data.playerId);
+                writeString(out, msg.reason);
+                break;
+
+            case PLAYER_LEAVE:
+            case TURN_COMPLETE:
+            case TURN_CHANGE:
+            case HEARTBEAT:
+                writeString(out, data.playerId);
+                break;
+        }
+    }
+
+    private static NetworkMessage decodeBinary(DataInputStream in) throws IOException {
+        int version = in.readUnsignedByte();
+        int typeId = in.readUnsignedByte();
+        NetworkMessage.MessageType type = NetworkMessage.MessageType.fromId(typeId);
+        if (type == null) {
+            throw new IOException("Unknown message type: " + typeId);
+        }
+        if (version != PROTOCOL_VERSION && type != NetworkMessage.MessageType.HELLO) {
+            throw new IOException("Unsupported protocol version: " + version);
+        }
+        long timestamp = in.readLong();
+
+        NetworkMessage msg;
+        switch (type) {
+            case HELLO:
+                msg = NetworkMessage.createHello(in.readUnsignedShort());
+                break;
+
+            case PLAYER_JOIN:
+            case PLAYER_UPDATE: {
+                String playerId = readString(in);
+                String playerName = readString(in);
+                Point position = readPoint(in);
+                String characterImage = readString(in);
+                int money = in.readInt();
+                int health = in.readInt();
+                int energy = in.readInt();
+                int remainingTime = in.readInt();
+                PlayerState.Location location = readLocation(in);
+                PlayerData data = new PlayerData(playerId, playerName, position, characterImage, money, health, energy, location);
+                data.remainingTime = remainingTime;
+                msg = new NetworkMessage(type, data);
+                break;
+            }
+
+            case PLAYER_MOVE:
+                msg = NetworkMessage.createPlayerMove(readString(in), readPoint(in));
+                break;
+
+            case PLAYER_STATS_UPDATE:
+                msg = NetworkMessage.createPlayerStatsUpdate(readString(in), in.readInt(), in.readInt(), in.readInt());
+                break;
+
+            case PLAYER_LOCATION_CHANGE:
+                msg = NetworkMessage.createPlayerLocationChange(readString(in), readLocation(in));
+                break;
+
+            case PLAYER_TIME_UPDATE:
+                msg = NetworkMessage.createPlayerTimeUpdate(readString(in), in.readInt());
+                break;
+
+            case GAME_STATE_UPDATE:
+                msg = NetworkMessage.createGameStateUpdate(in.readInt(), in.readBoolean(), readString(in));
+                break;
+
+            case STATE_SNAPSHOT: {
+                int sequence = in.readInt();
+                int baselineSequence = in.readInt();
+                int count = in.readUnsignedShort();
+                List<PlayerDelta> deltas = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    deltas.add(readDelta(in, timestamp));
+                }
+                msg = NetworkMessage.createStateSnapshot(sequence, baselineSequence, deltas);
+                break;
+            }
+
+            case SNAPSHOT_ACK:
+                msg = NetworkMessage.createSnapshotAck(in.readInt());
+                break;
+
+            case RESUME:
+                msg = NetworkMessage.createResume(readString(in), readString(in), in.readInt(), in.readInt());
+                break;
+
+            case SESSION:
+                msg = NetworkMessage.createSession(readString(in), readString(in), in.readInt(), in.readInt());
+                break;
+
+            case KICKED:
+                msg = NetworkMessage.createKicked(readString(in), readString(in));
+                break;
+
+            case PLAYER_LEAVE:
+            case TURN_COMPLETE:
+            case TURN_CHANGE:
+            case HEARTBEAT:
+                msg = new NetworkMessage(type, new PlayerData(readString(in), "", new Point(), ""));
+                break;
+
+            default:
+                throw new IOException("Unhandled message type: " + type);
+        }
+
+        msg.timestamp = timestamp;
+        if (msg.playerData != null) {
+            msg.playerData.timestamp = timestamp;
+        }
+        return msg;
+    }
+
+    private static void writeDelta(DataOutputStream out, PlayerDelta delta) throws IOException {
+        PlayerData values = delta.values;
+        writeString(out, delta.playerId);
+        out.writeByte(delta.mask);
+        if (delta.has(PlayerDelta.POSITION)) writePoint(out, values.position);
+        if (delta.has(PlayerDelta.MONEY)) out.writeInt(values.money);
+        if (delta.has(PlayerDelta.HEALTH)) out.writeInt(values.health);
+        if (delta.has(PlayerDelta.ENERGY)) out.writeInt(values.energy);
+        if (delta.has(PlayerDelta.TIME)) out.writeInt(values.remainingTime);
+        if (delta.has(PlayerDelta.LOCATION)) writeLocation(out, values.currentLocation);
+        if (delta.has(PlayerDelta.CHARACTER)) writeString(out, values.characterImage);
+        if (delta.has(PlayerDelta.NAME)) writeString(out, values.playerName);
+    }
+
+    private static PlayerDelta readDelta(DataInputStream in, long timestamp) throws IOException {
+        String playerId = readString(in);
+        int mask = in.readUnsignedByte();
+        PlayerData values = new PlayerData(playerId, "", new Point(), "");
+        PlayerDelta delta = new PlayerDelta(playerId, mask, values);
+        if (delta.has(PlayerDelta.POSITION)) values.position = readPoint(in);
+        if (delta.has(PlayerDelta.MONEY)) values.money = in.readInt();
+        if (delta.has(PlayerDelta.HEALTH)) values.health = in.readInt();
+        if (delta.has(PlayerDelta.ENERGY)) values.energy = in.readInt();
+        if (delta.has(PlayerDelta.TIME)) values.remainingTime = in.readInt();
+        if (delta.has(PlayerDelta.LOCATION)) values.currentLocation = readLocation(in);
+        if (delta.has(PlayerDelta.CHARACTER)) values.characterImage = readString(in);
+        if (delta.has(PlayerDelta.NAME)) values.playerName = readString(in);
+        values.timestamp = timestamp;
+        return delta;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writePoint(DataOutputStream out, Point point) throws IOException {
+        out.writeInt(point != null ? point.x : 0);
+        out.writeInt(point != null ? point.y : 0);
+    }
+
+    private static Point readPoint(DataInputStream in) throws IOException {
+        return new Point(in.readInt(), in.readInt());
+    }
+
+    private static void writeLocation(DataOutputStream out, PlayerState.Location location) throws IOException {
+        out.writeByte(location != null ? location.ordinal() : -1);
+    }
+
+    private static PlayerState.Location readLocation(DataInputStream in) throws IOException {
+        int index = in.readByte();
+        return index >= 0 && index < LOCATIONS.length ? LOCATIONS[index] : null;
+    }
+}
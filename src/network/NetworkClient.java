@@ -9,17 +9,27 @@ import java.net.*;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.swing.Timer;
+import util.ThreadFactories;
 
 public class NetworkClient {
     private static final String SERVER_IP = "localhost";
 
     private PlayerData myPlayerData;
     private Socket clientSocket;
-    private ObjectOutputStream out;
-    private ObjectInputStream in;
+    private DataOutputStream out;
+    private DataInputStream in;
+    private volatile int protocolVersion = MessageCodec.LEGACY_VERSION;
+    private final SnapshotHistory snapshotHistory = new SnapshotHistory(GameConfig.Network.SNAPSHOT_HISTORY_SIZE);
 
-    private Map<String, PlayerData> onlinePlayers = new ConcurrentHashMap<>();
-    private boolean isConnected = false;
+    private final Map<String, PlayerData> onlinePlayers = new ConcurrentHashMap<>();
+    private final ArrayDeque<NetworkMessage> outbox = new ArrayDeque<>();
+    private volatile boolean isConnected = false;
+    private volatile boolean closing = false;
+    private volatile boolean resuming = false;
+    private volatile String sessionToken;
+    private volatile int roomId = -1;
+    private volatile int lastAckedSequence = -1;
+    private volatile long lastSentAt = 0;
     private java.util.function.Consumer<String> turnChangeCallback;
     private String currentTurnPlayer;
 
@@ -38,65 +48,111 @@ public class NetworkClient {
     }
     
     public void connect() {
-        new Thread(() -> {
-            int retryCount = 0;
-            int maxRetries = GameConfig.Network.RETRY_ATTEMPTS;
-            
-            while (retryCount < maxRetries && !isConnected) {
-                try {
-                    clientSocket = new Socket(SERVER_IP, GameConfig.Network.SERVER_PORT);
-                    clientSocket.setSoTimeout(5000);
-                    out = new ObjectOutputStream(clientSocket.getOutputStream());
-                    in = new ObjectInputStream(clientSocket.getInputStream());
-                    
-                    isConnected = true;
-                    System.out.println("Connected to server");
+        closing = false;
+        ThreadFactories.start("Client-" + myPlayerData.playerId, this::runConnection);
+    }
+
+    private void runConnection() {
+        int failures = 0;
+        long lostAt = -1;
+
+        while (!closing) {
+            boolean opened = false;
+            try {
+                clientSocket = new Socket(SERVER_IP, GameConfig.Network.SERVER_PORT);
+                clientSocket.setSoTimeout(5000);
+                clientSocket.setTcpNoDelay(GameConfig.Network.CLIENT_TCP_NO_DELAY);
+                out = new DataOutputStream(new BufferedOutputStream(clientSocket.getOutputStream()));
+                in = new DataInputStream(new BufferedInputStream(clientSocket.getInputStream()));
 
+                isConnected = true;
+                opened = true;
+                failures = 0;
+                lostAt = -1;
+                System.out.println(sessionToken != null ? "Reconnected to server" : "Connected to server");
+                ThreadFactories.start("ClientWriter-" + myPlayerData.playerId, this::runWriter);
+
+                protocolVersion = MessageCodec.PROTOCOL_VERSION;
+                sendMessage(NetworkMessage.createHello(MessageCodec.PROTOCOL_VERSION));
+
+                if (sessionToken != null) {
+                    resuming = true;
+                    sendMessage(NetworkMessage.createResume(myPlayerData.playerId, sessionToken, lastAckedSequence, roomId));
+                    sendMessage(NetworkMessage.createPlayerUpdate(myPlayerData.copy()));
+                } else {
                     Thread.sleep(100);
                     sendMessage(NetworkMessage.createPlayerJoin(myPlayerData));
-
-                    startHeartbeat();
-                    
-                    while (isConnected && !clientSocket.isClosed()) {
-                        try {
-                            NetworkMessage msg = (NetworkMessage) in.readObject();
-                            handleMessage(msg);
-                        } catch (java.net.SocketTimeoutException e) {
-                            continue;
-                        } catch (java.io.EOFException e) {
-                            break;
-                        } catch (java.net.SocketException e) {
-                            break;
-                        }
-                    }
-                    break;
-                } catch (Exception e) {
-                    retryCount++;
-                    System.out.println("Connection attempt " + retryCount + " failed: " + e.getMessage());
-                    
-                    try {
-                        if (clientSocket != null && !clientSocket.isClosed()) {
-                            clientSocket.close();
-                        }
-                    } catch (IOException closeE) {
-                        System.out.println("Close error: " + closeE.getMessage());
-                    }
-                    
-                    if (retryCount < maxRetries) {
-                        try {
-                            Thread.sleep(GameConfig.Network.RETRY_DELAY);
-                        } catch (InterruptedException ie) {
-                            break;
-                        }
-                    }
                 }
+
+                startHeartbeat();
+                readMessages();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                System.out.println("Connection attempt " + (failures + 1) + " failed: " + e.getMessage());
+            } finally {
+                isConnected = false;
+                closeSocket();
             }
-            
-            if (!isConnected) {
-                System.out.println("Failed to connect after " + maxRetries + " attempts");
-                showConnectionError();
+
+            if (closing) break;
+            if (opened) {
+                lostAt = System.currentTimeMillis();
+                System.out.println("Connection lost, reconnecting");
+            }
+            failures++;
+
+            boolean inGrace = sessionToken != null && lostAt >= 0
+                    && System.currentTimeMillis() - lostAt < GameConfig.Network.SESSION_GRACE_PERIOD;
+            if (!inGrace && failures >= GameConfig.Network.RETRY_ATTEMPTS) break;
+
+            try {
+                Thread.sleep(reconnectDelay(failures));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        stopHeartbeat();
+        if (!closing) {
+            System.out.println("Failed to connect after " + failures + " attempts");
+            sessionToken = null;
+            showConnectionError();
+        }
+    }
+
+    private void readMessages() throws IOException {
+        while (isConnected && !clientSocket.isClosed()) {
+            try {
+                handleMessage(MessageCodec.readFrame(in));
+            } catch (java.net.SocketTimeoutException e) {
+                continue;
+            } catch (java.io.EOFException | java.net.SocketException e) {
+                break;
+            }
+        }
+    }
+
+    private static long reconnectDelay(int failures) {
+        long delay = Math.min(GameConfig.Network.RECONNECT_MAX_DELAY,
+                (long) GameConfig.Network.RETRY_DELAY << Math.min(failures - 1, 16));
+        return delay / 2 + java.util.concurrent.ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    private void closeSocket() {
+        try {
+            if (clientSocket != null && !clientSocket.isClosed()) {
+                clientSocket.close();
             }
-        }).start();
+        } catch (IOException e) {
+            System.out.println("Close error: " + e.getMessage());
+        }
+        synchronized (outbox) {
+            outbox.clear();
+            outbox.notifyAll();
+        }
     }
     
     private void handleMessage(NetworkMessage msg) {
@@ -105,89 +161,81 @@ public class NetworkClient {
             return;
         }
 
+        if (msg.type == NetworkMessage.MessageType.HELLO) {
+            protocolVersion = MessageCodec.negotiateVersion(msg.protocolVersion);
+            System.out.println("Server protocol version: " + protocolVersion);
+            return;
+        }
+
         switch (msg.type) {
             case PLAYER_JOIN:
                 if (!msg.playerData.playerId.equals(myPlayerData.playerId)) {
-                    synchronized (onlinePlayers) {
-                        PlayerData newPlayer = msg.playerData.copy();
-                        onlinePlayers.put(msg.playerData.playerId, newPlayer);
-                        System.out.println("Player joined: " + msg.playerData.playerName + " (" + msg.playerData.playerId + ") at " + msg.playerData.position);
-                        System.out.println("Total online players: " + onlinePlayers.size());
-                    }
+                    PlayerData joined = msg.playerData.copy();
+                    joined.timestamp = System.currentTimeMillis();
+                    onlinePlayers.put(msg.playerData.playerId, joined);
+                    System.out.println("Player joined: " + msg.playerData.playerName + " (" + msg.playerData.playerId + ") at " + msg.playerData.position);
+                    System.out.println("Total online players: " + onlinePlayers.size());
                 }
                 break;
 
             case PLAYER_MOVE:
                 if (!msg.playerData.playerId.equals(myPlayerData.playerId)) {
-                    synchronized (onlinePlayers) {
-                        PlayerData player = onlinePlayers.get(msg.playerData.playerId);
-                        if (player != null) {
-                            Point currentPos = player.position;
-                            Point newPos = msg.playerData.position;
-                            if (currentPos == null || !currentPos.equals(newPos)) {
-                                player.updatePosition(newPos);
-                            }
+                    Point newPos = msg.playerData.position;
+                    onlinePlayers.computeIfPresent(msg.playerData.playerId, (id, player) -> {
+                        if (player.position != null && player.position.equals(newPos)) {
+                            return player;
                         }
-                    }
+                        PlayerData next = player.copy();
+                        next.updatePosition(newPos);
+                        return next;
+                    });
                 }
                 break;
 
             case PLAYER_UPDATE:
                 if (!msg.playerData.playerId.equals(myPlayerData.playerId)) {
-                    synchronized (onlinePlayers) {
-                        PlayerData player = onlinePlayers.get(msg.playerData.playerId);
-                        if (player != null) {
-                            player.money = msg.playerData.money;
-                            player.health = msg.playerData.health;
-                            player.energy = msg.playerData.energy;
-                            player.remainingTime = msg.playerData.remainingTime;
-                            player.position = msg.playerData.position;
-                            player.currentLocation = msg.playerData.currentLocation;
-                            player.characterImage = msg.playerData.characterImage;
-                        }
-                    }
+                    PlayerData update = msg.playerData;
+                    updatePlayer(update.playerId, player -> {
+                        player.money = update.money;
+                        player.health = update.health;
+                        player.energy = update.energy;
+                        player.remainingTime = update.remainingTime;
+                        if (update.position != null) player.position = new Point(update.position);
+                        player.currentLocation = update.currentLocation;
+                        player.characterImage = update.characterImage;
+                    });
                 }
                 break;
 
             case PLAYER_STATS_UPDATE:
                 if (!msg.playerData.playerId.equals(myPlayerData.playerId)) {
-                    synchronized (onlinePlayers) {
-                        PlayerData player = onlinePlayers.get(msg.playerData.playerId);
-                        if (player != null) {
-                            player.updateStats(msg.playerData.money, msg.playerData.health, msg.playerData.energy);
-                        }
-                    }
+                    PlayerData update = msg.playerData;
+                    updatePlayer(update.playerId, player -> player.updateStats(update.money, update.health, update.energy));
                 }
                 break;
 
             case PLAYER_LOCATION_CHANGE:
                 if (!msg.playerData.playerId.equals(myPlayerData.playerId)) {
-                    synchronized (onlinePlayers) {
-                        PlayerData player = onlinePlayers.get(msg.playerData.playerId);
-                        if (player != null) {
-                            player.updateLocation(msg.playerData.currentLocation);
-                        }
-                    }
+                    PlayerData update = msg.playerData;
+                    updatePlayer(update.playerId, player -> player.updateLocation(update.currentLocation));
                 }
                 break;
 
             case PLAYER_TIME_UPDATE:
                 if (!msg.playerData.playerId.equals(myPlayerData.playerId)) {
-                    synchronized (onlinePlayers) {
-                        PlayerData player = onlinePlayers.get(msg.playerData.playerId);
-                        if (player != null) {
-                            player.updateTime(msg.playerData.remainingTime);
-                        }
-                    }
+                    PlayerData update = msg.playerData;
+                    updatePlayer(update.playerId, player -> player.updateTime(update.remainingTime));
                 }
                 break;
 
+            case STATE_SNAPSHOT:
+                applySnapshot(msg);
+                break;
+
             case PLAYER_LEAVE:
                 if (!msg.playerData.playerId.equals(myPlayerData.playerId)) {
-                    synchronized (onlinePlayers) {
-                        onlinePlayers.remove(msg.playerData.playerId);
-                        System.out.println("Player left: " + msg.playerData.playerId);
-                    }
+                    onlinePlayers.remove(msg.playerData.playerId);
+                    System.out.println("Player left: " + msg.playerData.playerId);
                 }
                 break;
 
@@ -207,9 +255,102 @@ public class NetworkClient {
 
             case HEARTBEAT:
                 break;
+
+            case SESSION:
+                onSession(msg);
+                break;
+
+            case KICKED:
+                onKicked(msg);
+                break;
         }
     }
     
+    private void applySnapshot(NetworkMessage msg) {
+        Map<String, PlayerData> baseline = msg.baselineSequence < 0 ? Map.of() : snapshotHistory.get(msg.baselineSequence);
+        if (baseline == null || msg.deltas == null) {
+            System.out.println("Snapshot baseline " + msg.baselineSequence + " unavailable, requesting full snapshot");
+            lastAckedSequence = -1;
+            sendMessage(NetworkMessage.createSnapshotAck(-1));
+            return;
+        }
+
+        Map<String, PlayerData> state = new HashMap<>(baseline);
+        for (PlayerDelta delta : msg.deltas) {
+            state.put(delta.playerId, delta.applyTo(baseline.get(delta.playerId)));
+            applySnapshotEntry(delta);
+        }
+        snapshotHistory.put(msg.sequence, state);
+        lastAckedSequence = msg.sequence;
+        sendMessage(NetworkMessage.createSnapshotAck(msg.sequence));
+    }
+
+    private void onSession(NetworkMessage msg) {
+        boolean wasResuming = resuming;
+        resuming = false;
+        if (msg.sessionToken == null) {
+            System.out.println("Session expired, rejoining");
+            sessionToken = null;
+            onlinePlayers.clear();
+            snapshotHistory.clear();
+            lastAckedSequence = -1;
+            sendMessage(NetworkMessage.createPlayerJoin(myPlayerData));
+            return;
+        }
+
+        roomId = msg.roomId;
+        if (wasResuming && msg.sequence < 0) {
+            onlinePlayers.clear();
+            snapshotHistory.clear();
+            lastAckedSequence = -1;
+        }
+        sessionToken = msg.sessionToken;
+        System.out.println(wasResuming ? "Session resumed from snapshot " + msg.sequence : "Session established");
+    }
+
+    private void onKicked(NetworkMessage msg) {
+        System.out.println("Removed from server: " + msg.reason);
+        closing = true;
+        isConnected = false;
+        sessionToken = null;
+        roomId = -1;
+        stopHeartbeat();
+        closeSocket();
+        showKickedMessage(msg.reason);
+    }
+
+    private void applySnapshotEntry(PlayerDelta delta) {
+        if (delta.playerId == null || delta.playerId.equals(myPlayerData.playerId)) {
+            return;
+        }
+        PlayerData update = delta.values;
+        updatePlayer(delta.playerId, player -> {
+            if (delta.has(PlayerDelta.POSITION) && (player.position == null || !player.position.equals(update.position))) {
+                player.updatePosition(update.position);
+            }
+            if (delta.has(PlayerDelta.MONEY | PlayerDelta.HEALTH | PlayerDelta.ENERGY)) {
+                player.updateStats(
+                    delta.has(PlayerDelta.MONEY) ? update.money : player.money,
+                    delta.has(PlayerDelta.HEALTH) ? update.health : player.health,
+                    delta.has(PlayerDelta.ENERGY) ? update.energy : player.energy);
+            }
+            if (delta.has(PlayerDelta.TIME)) player.updateTime(update.remainingTime);
+            if (delta.has(PlayerDelta.LOCATION)) player.updateLocation(update.currentLocation);
+            if (delta.has(PlayerDelta.CHARACTER)) player.updateCharacter(update.characterImage);
+            if (delta.has(PlayerDelta.NAME)) player.playerName = update.playerName;
+        });
+    }
+
+    private void updatePlayer(String playerId, java.util.function.Consumer<PlayerData> change) {
+        onlinePlayers.computeIfPresent(playerId, (id, player) -> {
+            PlayerData next = player.copy();
+            change.accept(next);
+            next.timestamp = next.position != null && next.position.equals(player.position)
+                    ? player.timestamp : System.currentTimeMillis();
+            return next;
+        });
+    }
+
     public void sendPlayerMove(Point newPosition) {
         Point currentPos = myPlayerData.position;
         if (currentPos == null || !currentPos.equals(newPosition)) {
@@ -272,19 +413,60 @@ public class NetworkClient {
     }
     
     private void sendMessage(NetworkMessage msg) {
+        if (!isConnected) return;
+
+        synchronized (outbox) {
+            if (msg.type == NetworkMessage.MessageType.PLAYER_MOVE) {
+                outbox.removeIf(queued -> queued.type == NetworkMessage.MessageType.PLAYER_MOVE
+                        && queued.playerData.playerId.equals(msg.playerData.playerId));
+            }
+            outbox.addLast(msg);
+            outbox.notifyAll();
+        }
+    }
+
+    private void runWriter() {
+        Socket socket = clientSocket;
+        try {
+            while (isConnected && !socket.isClosed()) {
+                synchronized (outbox) {
+                    while (outbox.isEmpty() && isConnected && !socket.isClosed()) {
+                        outbox.wait(GameConfig.Network.HEARTBEAT_INTERVAL);
+                    }
+                }
+                Thread.sleep(GameConfig.Network.CLIENT_FLUSH_INTERVAL);
+                flushOutbox();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void flushOutbox() {
+        List<NetworkMessage> batch;
+        synchronized (outbox) {
+            if (outbox.isEmpty()) return;
+            batch = new ArrayList<>(outbox);
+            outbox.clear();
+        }
+
         try {
             if (out != null && isConnected) {
-                out.writeObject(msg);
+                for (NetworkMessage msg : batch) {
+                    MessageCodec.writeFrame(out, msg, protocolVersion);
+                }
                 out.flush();
+                lastSentAt = System.currentTimeMillis();
             }
         } catch (IOException e) {
             System.out.println("Send error: " + e.getMessage());
             isConnected = false;
+            closeSocket();
         }
     }
     
     public Map<String, PlayerData> getOnlinePlayers() {
-        return onlinePlayers;
+        return Collections.unmodifiableMap(onlinePlayers);
     }
     
     public PlayerData getMyPlayerData() {
@@ -304,8 +486,8 @@ public class NetworkClient {
             heartbeatTimer.stop();
         }
 
-        heartbeatTimer = new Timer(GameConfig.Network.HEARTBEAT_INTERVAL, e -> {
-            if (isConnected) {
+        heartbeatTimer = new Timer(GameConfig.Network.HEARTBEAT_INTERVAL / 2, e -> {
+            if (isConnected && System.currentTimeMillis() - lastSentAt >= GameConfig.Network.HEARTBEAT_INTERVAL) {
                 sendMessage(NetworkMessage.createHeartbeat(myPlayerData.playerId));
             }
         });
@@ -320,19 +502,14 @@ public class NetworkClient {
     }
 
     public void disconnect() {
-        isConnected = false;
+        closing = true;
         stopHeartbeat();
-
-        try {
-            if (out != null) {
-                sendMessage(NetworkMessage.createPlayerLeave(myPlayerData.playerId));
-            }
-            if (clientSocket != null) {
-                clientSocket.close();
-            }
-        } catch (IOException e) {
-            System.out.println("Disconnect error: " + e.getMessage());
-        }
+        sendMessage(NetworkMessage.createPlayerLeave(myPlayerData.playerId));
+        flushOutbox();
+        isConnected = false;
+        sessionToken = null;
+        roomId = -1;
+        closeSocket();
     }
     
     private void showConnectionError() {
@@ -355,4 +532,23 @@ public class NetworkClient {
             timer.start();
         });
     }
+
+    private void showKickedMessage(String reason) {
+        javax.swing.SwingUtilities.invokeLater(() -> {
+            String text = (reason != null ? reason : "Removed from server") + "\n\n" +
+                "Game will close in 10 seconds...";
+            javax.swing.JOptionPane optionPane = new javax.swing.JOptionPane(text, javax.swing.JOptionPane.ERROR_MESSAGE);
+            optionPane.setFont(util.FontManager.getFontForText(text, 14));
+
+            javax.swing.JDialog dialog = optionPane.createDialog(null, "Disconnected");
+            dialog.setFont(util.FontManager.getFontForText("Disconnected", 14));
+            dialog.setVisible(true);
+
+            javax.swing.Timer timer = new javax.swing.Timer(10000, e -> {
+                System.exit(0);
+            });
+            timer.setRepeats(false);
+            timer.start();
+        });
+    }
 }
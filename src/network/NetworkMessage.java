@@ -3,27 +3,62 @@ package network;
 import core.PlayerState;
 import java.awt.Point;
 import java.io.Serializable;
+import java.util.List;
 
 public class NetworkMessage implements Serializable {
     private static final long serialVersionUID = 1L;
     
     public enum MessageType {
-        PLAYER_JOIN,
-        PLAYER_LEAVE,
-        PLAYER_MOVE,
-        PLAYER_UPDATE,
-        PLAYER_STATS_UPDATE,
-        PLAYER_LOCATION_CHANGE,
-        PLAYER_TIME_UPDATE,
-        TURN_COMPLETE,
-        TURN_CHANGE,
-        GAME_STATE_UPDATE,
-        HEARTBEAT
+        PLAYER_JOIN(0),
+        PLAYER_LEAVE(1),
+        PLAYER_MOVE(2),
+        PLAYER_UPDATE(3),
+        PLAYER_STATS_UPDATE(4),
+        PLAYER_LOCATION_CHANGE(5),
+        PLAYER_TIME_UPDATE(6),
+        TURN_COMPLETE(7),
+        TURN_CHANGE(8),
+        GAME_STATE_UPDATE(9),
+        HEARTBEAT(10),
+        HELLO(11),
+        STATE_SNAPSHOT(12),
+        SNAPSHOT_ACK(13),
+        RESUME(14),
+        SESSION(15),
+        KICKED(16);
+
+        private static final MessageType[] BY_ID = new MessageType[256];
+
+        static {
+            for (MessageType type : values()) {
+                if (BY_ID[type.id & 0xFF] != null) {
+                    throw new IllegalStateException("Duplicate message id " + type.id + ": " + type);
+                }
+                BY_ID[type.id & 0xFF] = type;
+            }
+        }
+
+        public final byte id;
+
+        MessageType(int id) {
+            this.id = (byte) id;
+        }
+
+        public static MessageType fromId(int id) {
+            return id >= 0 && id < BY_ID.length ? BY_ID[id] : null;
+        }
     }
     
     public MessageType type;
     public PlayerData playerData;
     public long timestamp;
+    public int protocolVersion;
+    public int sequence;
+    public int baselineSequence = -1;
+    public List<PlayerDelta> deltas;
+    public String sessionToken;
+    public int roomId = -1;
+    public String reason;
     
     public NetworkMessage(MessageType type, PlayerData playerData) {
         this.type = type;
@@ -90,4 +125,52 @@ public class NetworkMessage implements Serializable {
         PlayerData data = new PlayerData(playerId, "", new Point(), "");
         return new NetworkMessage(MessageType.PLAYER_LEAVE, data);
     }
+
+    public static NetworkMessage createStateSnapshot(int sequence, int baselineSequence, List<PlayerDelta> deltas) {
+        PlayerData data = new PlayerData("", "", new Point(), "");
+        NetworkMessage msg = new NetworkMessage(MessageType.STATE_SNAPSHOT, data);
+        msg.sequence = sequence;
+        msg.baselineSequence = baselineSequence;
+        msg.deltas = deltas;
+        return msg;
+    }
+
+    public static NetworkMessage createSnapshotAck(int sequence) {
+        PlayerData data = new PlayerData("", "", new Point(), "");
+        NetworkMessage msg = new NetworkMessage(MessageType.SNAPSHOT_ACK, data);
+        msg.sequence = sequence;
+        return msg;
+    }
+
+    public static NetworkMessage createResume(String playerId, String sessionToken, int lastAckedSequence, int roomId) {
+        PlayerData data = new PlayerData(playerId, "", new Point(), "");
+        NetworkMessage msg = new NetworkMessage(MessageType.RESUME, data);
+        msg.sessionToken = sessionToken;
+        msg.sequence = lastAckedSequence;
+        msg.roomId = roomId;
+        return msg;
+    }
+
+    public static NetworkMessage createSession(String playerId, String sessionToken, int baselineSequence, int roomId) {
+        PlayerData data = new PlayerData(playerId, "", new Point(), "");
+        NetworkMessage msg = new NetworkMessage(MessageType.SESSION, data);
+        msg.sessionToken = sessionToken;
+        msg.sequence = baselineSequence;
+        msg.roomId = roomId;
+        return msg;
+    }
+
+    public static NetworkMessage createKicked(String playerId, String reason) {
+        PlayerData data = new PlayerData(playerId, "", new Point(), "");
+        NetworkMessage msg = new NetworkMessage(MessageType.KICKED, data);
+        msg.reason = reason;
+        return msg;
+    }
+
+    public static NetworkMessage createHello(int protocolVersion) {
+        PlayerData data = new PlayerData("", "", new Point(), "");
+        NetworkMessage msg = new NetworkMessage(MessageType.HELLO, data);
+        msg.protocolVersion = protocolVersion;
+        return msg;
+    }
 }
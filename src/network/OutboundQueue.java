@@ -0,0 +1,163 @@
+package network;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+
+public class OutboundQueue {
+    public enum OverflowPolicy {
+        DROP_OLDEST_MOVE,
+        COALESCE,
+        DISCONNECT
+    }
+
+    public static class Frame {
+        final NetworkMessage.MessageType type;
+        final String playerId;
+        final ByteBuffer buffer;
+
+        public Frame(NetworkMessage.MessageType type, String playerId, ByteBuffer buffer) {
+            this.type = type;
+            this.playerId = playerId;
+            this.buffer = buffer;
+        }
+
+        boolean isCoalescible() {
+            switch (type) {
+                case PLAYER_MOVE:
+                case PLAYER_STATS_UPDATE:
+                case PLAYER_TIME_UPDATE:
+                case PLAYER_LOCATION_CHANGE:
+                    return playerId != null;
+                default:
+                    return isState();
+            }
+        }
+
+        boolean isState() {
+            switch (type) {
+                case STATE_SNAPSHOT:
+                    return true;
+                case PLAYER_UPDATE:
+                    return playerId != null;
+                default:
+                    return false;
+            }
+        }
+
+        boolean supersedes(Frame other) {
+            return type == other.type && Objects.equals(playerId, other.playerId);
+        }
+    }
+
+    private final ArrayDeque<Frame> frames = new ArrayDeque<>();
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private int maxDepth = 0;
+    private long enqueuedFrames = 0;
+    private long droppedFrames = 0;
+    private long coalescedFrames = 0;
+
+    public OutboundQueue(int capacity, OverflowPolicy policy) {
+        this.capacity = capacity;
+        this.policy = policy;
+    }
+
+    public synchronized boolean offer(Frame frame) {
+        if (frames.size() >= capacity && !makeRoom(frame)) {
+            return false;
+        }
+        frames.addLast(frame);
+        enqueuedFrames++;
+        maxDepth = Math.max(maxDepth, frames.size());
+        return true;
+    }
+
+    private boolean makeRoom(Frame frame) {
+        switch (policy) {
+            case COALESCE:
+                if (frame.isCoalescible() && replaceSuperseded(frame)) {
+                    return true;
+                }
+                return dropOldestMove();
+            case DROP_OLDEST_MOVE:
+                if (frame.isState() && replaceSuperseded(frame)) {
+                    return true;
+                }
+                return dropOldestMove();
+            case DISCONNECT:
+            default:
+                return false;
+        }
+    }
+
+    private boolean replaceSuperseded(Frame frame) {
+        Iterator<Frame> it = frames.iterator();
+        while (it.hasNext()) {
+            Frame queued = it.next();
+            if (queued.isCoalescible() && frame.supersedes(queued)) {
+                it.remove();
+                coalescedFrames++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean dropOldestMove() {
+        Iterator<Frame> it = frames.iterator();
+        while (it.hasNext()) {
+            if (it.next().type == NetworkMessage.MessageType.PLAYER_MOVE) {
+                it.remove();
+                droppedFrames++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized int drainTo(ByteBuffer[] target) {
+        int count = 0;
+        while (count < target.length && !frames.isEmpty()) {
+            target[count++] = frames.pollFirst().buffer;
+        }
+        return count;
+    }
+
+    public synchronized boolean isEmpty() {
+        return frames.isEmpty();
+    }
+
+    public synchronized void clear() {
+        frames.clear();
+    }
+
+    public synchronized int getDepth() {
+        return frames.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public OverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    public synchronized int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public synchronized long getEnqueuedFrames() {
+        return enqueuedFrames;
+    }
+
+    public synchronized long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    public synchronized long getCoalescedFrames() {
+        return coalescedFrames;
+    }
+}
@@ -81,6 +81,7 @@ public class PlayerData implements Serializable {
         PlayerData copy = new PlayerData(playerId, playerName, position, characterImage, 
                             money, health, energy, currentLocation);
         copy.remainingTime = this.remainingTime;
+        copy.timestamp = this.timestamp;
         return copy;
     }
 }
@@ -0,0 +1,64 @@
+package network;
+
+import java.awt.Point;
+import java.io.Serializable;
+import java.util.Objects;
+
+public class PlayerDelta implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final int POSITION = 1;
+    public static final int MONEY = 1 << 1;
+    public static final int HEALTH = 1 << 2;
+    public static final int ENERGY = 1 << 3;
+    public static final int TIME = 1 << 4;
+    public static final int LOCATION = 1 << 5;
+    public static final int CHARACTER = 1 << 6;
+    public static final int NAME = 1 << 7;
+    public static final int FULL = 0xFF;
+
+    public final String playerId;
+    public final int mask;
+    public final PlayerData values;
+
+    public PlayerDelta(String playerId, int mask, PlayerData values) {
+        this.playerId = playerId;
+        this.mask = mask;
+        this.values = values;
+    }
+
+    public static PlayerDelta diff(PlayerData base, PlayerData current) {
+        int mask = 0;
+        if (base == null) {
+            mask = FULL;
+        } else {
+            if (!Objects.equals(base.position, current.position)) mask |= POSITION;
+            if (base.money != current.money) mask |= MONEY;
+            if (base.health != current.health) mask |= HEALTH;
+            if (base.energy != current.energy) mask |= ENERGY;
+            if (base.remainingTime != current.remainingTime) mask |= TIME;
+            if (base.currentLocation != current.currentLocation) mask |= LOCATION;
+            if (!Objects.equals(base.characterImage, current.characterImage)) mask |= CHARACTER;
+            if (!Objects.equals(base.playerName, current.playerName)) mask |= NAME;
+        }
+        return mask == 0 ? null : new PlayerDelta(current.playerId, mask, current);
+    }
+
+    public boolean has(int field) {
+        return (mask & field) != 0;
+    }
+
+    public PlayerData applyTo(PlayerData base) {
+        PlayerData result = base != null ? base.copy() : new PlayerData(playerId, "", new Point(), "");
+        if (has(POSITION)) result.position = new Point(values.position);
+        if (has(MONEY)) result.money = values.money;
+        if (has(HEALTH)) result.health = values.health;
+        if (has(ENERGY)) result.energy = values.energy;
+        if (has(TIME)) result.remainingTime = values.remainingTime;
+        if (has(LOCATION)) result.currentLocation = values.currentLocation;
+        if (has(CHARACTER)) result.characterImage = values.characterImage;
+        if (has(NAME)) result.playerName = values.playerName;
+        result.timestamp = values.timestamp;
+        return result;
+    }
+}
@@ -0,0 +1,126 @@
+package network;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import util.ThreadFactories;
+
+public class RoomManager {
+    private final Map<Integer, GameRoom> rooms = new ConcurrentHashMap<>();
+    private final Map<ClientConnection, GameRoom> connectionRooms = new ConcurrentHashMap<>();
+    private final ExecutorService[] shards;
+    private final Consumer<String> logger;
+    private final Runnable onPlayersChanged;
+    private int nextRoomId = 1;
+
+    public RoomManager(int shardCount, Consumer<String> logger, Runnable onPlayersChanged) {
+        this.logger = logger;
+        this.onPlayersChanged = onPlayersChanged;
+        this.shards = new ExecutorService[shardCount];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = Executors.newSingleThreadExecutor(
+                    ThreadFactories.named(ThreadFactories.Mode.PLATFORM, "Server-Room-" + i));
+        }
+    }
+
+    public synchronized GameRoom assign(ClientConnection connection) {
+        GameRoom room = null;
+        for (GameRoom candidate : rooms.values()) {
+            if (candidate.isOpen() && (room == null || candidate.getId() < room.getId())) {
+                room = candidate;
+            }
+        }
+        if (room == null) {
+            int id = nextRoomId++;
+            int shard = id % shards.length;
+            room = new GameRoom(id, shards[shard], this, logger, onPlayersChanged);
+            rooms.put(id, room);
+            logger.accept("Opened room " + id + " on shard " + shard);
+        }
+        room.addMember(connection);
+        connectionRooms.put(connection, room);
+        return room;
+    }
+
+    public synchronized GameRoom moveToSession(ClientConnection connection, String sessionToken, int roomId) {
+        GameRoom target = null;
+        for (GameRoom room : rooms.values()) {
+            if (sessionToken != null && room.hasSession(sessionToken)) {
+                target = room;
+                break;
+            }
+        }
+        if (target == null) {
+            GameRoom previous = rooms.get(roomId);
+            if (previous == null || (previous != connectionRooms.get(connection) && !previous.isOpen())) {
+                return null;
+            }
+            target = previous;
+        }
+
+        GameRoom current = connectionRooms.put(connection, target);
+        if (current != target) {
+            target.addMember(connection);
+            if (current != null) {
+                current.removeMember(connection);
+                closeIfEmpty(current);
+            }
+        }
+        return target;
+    }
+
+    public GameRoom getRoom(ClientConnection connection) {
+        return connectionRooms.get(connection);
+    }
+
+    public GameRoom getRoom(int roomId) {
+        return rooms.get(roomId);
+    }
+
+    public GameRoom release(ClientConnection connection) {
+        return connectionRooms.remove(connection);
+    }
+
+    synchronized void closeIfEmpty(GameRoom room) {
+        if (room.isEmpty() && rooms.remove(room.getId(), room)) {
+            logger.accept("Closed room " + room.getId());
+            onPlayersChanged.run();
+        }
+    }
+
+    public List<GameRoom> getRooms() {
+        List<GameRoom> sorted = new ArrayList<>(rooms.values());
+        sorted.sort(Comparator.comparingInt(GameRoom::getId));
+        return sorted;
+    }
+
+    public Set<ClientConnection> getConnections() {
+        return connectionRooms.keySet();
+    }
+
+    public void tick() {
+        for (GameRoom room : rooms.values()) {
+            room.tick();
+        }
+    }
+
+    public void expireSessions() {
+        for (GameRoom room : rooms.values()) {
+            room.expireSessions();
+        }
+    }
+
+    public void shutdown() {
+        for (ExecutorService shard : shards) {
+            shard.shutdown();
+        }
+        rooms.clear();
+        connectionRooms.clear();
+    }
+}
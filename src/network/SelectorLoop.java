@@ -0,0 +1,224 @@
+package network;
+
+import core.GameConfig;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import util.ThreadFactories;
+
+public class SelectorLoop implements Runnable {
+    public interface Handler {
+        void onConnect(ClientConnection connection);
+
+        void onActivity(ClientConnection connection);
+
+        void onMessage(ClientConnection connection, NetworkMessage msg);
+
+        void onDisconnect(ClientConnection connection, String reason);
+
+        void onError(String message);
+    }
+
+    private final int port;
+    private final Handler handler;
+    private final Queue<ClientConnection> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final Map<ClientConnection, String> pendingCloses = new ConcurrentHashMap<>();
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread thread;
+    private volatile boolean running = false;
+
+    public SelectorLoop(int port, Handler handler) {
+        this.port = port;
+        this.handler = handler;
+    }
+
+    public void start() throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        serverChannel.bind(new InetSocketAddress(port), GameConfig.Network.ACCEPT_BACKLOG);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        running = true;
+        thread = ThreadFactories.named(ThreadFactories.Mode.PLATFORM, "Server-Selector").newThread(this);
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (selector != null) {
+            selector.wakeup();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    void requestWrite(ClientConnection connection) {
+        pendingWrites.add(connection);
+        selector.wakeup();
+    }
+
+    void deliver(ClientConnection connection, NetworkMessage msg) {
+        if (!connection.isClosed()) {
+            handler.onMessage(connection, msg);
+        }
+    }
+
+    void requestClose(ClientConnection connection, String reason) {
+        if (connection.isClosed()) return;
+        pendingCloses.putIfAbsent(connection, reason);
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+                processPendingCloses();
+                processPendingWrites();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+
+                    ClientConnection connection = (ClientConnection) key.attachment();
+                    if (key.isReadable()) {
+                        read(connection);
+                    }
+                    if (key.isValid() && key.isWritable()) {
+                        write(connection);
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (running) {
+                handler.onError("Selector error: " + e.getMessage());
+            }
+        } finally {
+            shutdown();
+        }
+    }
+
+    private void accept() {
+        try {
+            SocketChannel channel;
+            while ((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+
+                ClientConnection connection = new ClientConnection(channel, this);
+                connection.setKey(channel.register(selector, SelectionKey.OP_READ, connection));
+                handler.onConnect(connection);
+            }
+        } catch (IOException e) {
+            handler.onError("Accept error: " + e.getMessage());
+        }
+    }
+
+    private void read(ClientConnection connection) {
+        try {
+            handler.onActivity(connection);
+            for (NetworkMessage msg : connection.readMessages()) {
+                handler.onMessage(connection, msg);
+            }
+        } catch (EOFException e) {
+            closeConnection(connection, "EOF");
+        } catch (IOException e) {
+            closeConnection(connection, "IO error: " + e.getMessage());
+        }
+    }
+
+    private void write(ClientConnection connection) {
+        try {
+            boolean drained = connection.writePending();
+            SelectionKey key = connection.getKey();
+            if (key != null && key.isValid()) {
+                int ops = drained ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE;
+                if (key.interestOps() != ops) {
+                    key.interestOps(ops);
+                }
+            }
+        } catch (IOException e) {
+            closeConnection(connection, "Write error: " + e.getMessage());
+        }
+    }
+
+    private void processPendingWrites() {
+        ClientConnection connection;
+        while ((connection = pendingWrites.poll()) != null) {
+            if (!connection.isClosed()) {
+                write(connection);
+            }
+        }
+    }
+
+    private void processPendingCloses() {
+        if (pendingCloses.isEmpty()) return;
+        for (ClientConnection connection : pendingCloses.keySet()) {
+            String reason = pendingCloses.remove(connection);
+            if (connection.getChannel().isOpen()) {
+                try {
+                    connection.writePending();
+                } catch (IOException ignored) {
+                }
+            }
+            closeConnection(connection, reason);
+        }
+    }
+
+    private void closeConnection(ClientConnection connection, String reason) {
+        if (connection.isClosed()) return;
+        connection.markClosed();
+        SelectionKey key = connection.getKey();
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            connection.getChannel().close();
+        } catch (IOException ignored) {
+        }
+        handler.onDisconnect(connection, reason);
+    }
+
+    private void shutdown() {
+        running = false;
+        if (selector != null && selector.isOpen()) {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof ClientConnection connection) {
+                    closeConnection(connection, "Server stopped");
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+            }
+        }
+        try {
+            if (serverChannel != null) {
+                serverChannel.close();
+            }
+        } catch (IOException ignored) {
+        }
+    }
+}
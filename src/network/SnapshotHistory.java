@@ -0,0 +1,33 @@
+package network;
+
+import java.util.Arrays;
+import java.util.Map;
+
+public class SnapshotHistory {
+    private final int[] sequences;
+    private final Object[] states;
+
+    public SnapshotHistory(int capacity) {
+        this.sequences = new int[capacity];
+        this.states = new Object[capacity];
+        Arrays.fill(sequences, -1);
+    }
+
+    public synchronized void put(int sequence, Map<String, PlayerData> state) {
+        int index = sequence % sequences.length;
+        sequences[index] = sequence;
+        states[index] = state;
+    }
+
+    @SuppressWarnings("unchecked")
+    public synchronized Map<String, PlayerData> get(int sequence) {
+        if (sequence < 0) return null;
+        int index = sequence % sequences.length;
+        return sequences[index] == sequence ? (Map<String, PlayerData>) states[index] : null;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(sequences, -1);
+        Arrays.fill(states, null);
+    }
+}
@@ -0,0 +1,130 @@
+package network;
+
+import core.CoreDataManager;
+import core.GameConfig;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class StateSync {
+    private final CoreDataManager dataManager;
+    private final Set<String> dirtyPlayers = ConcurrentHashMap.newKeySet();
+    private final SnapshotHistory history = new SnapshotHistory(GameConfig.Network.SNAPSHOT_HISTORY_SIZE);
+    private int latestSequence = 0;
+    private long capturedVersion = -1;
+    private long fullSnapshots = 0;
+    private long deltaSnapshots = 0;
+
+    public StateSync(CoreDataManager dataManager) {
+        this.dataManager = dataManager;
+    }
+
+    public void markDirty(String playerId) {
+        if (playerId != null) {
+            dirtyPlayers.add(playerId);
+        }
+    }
+
+    public synchronized void clear() {
+        dirtyPlayers.clear();
+        history.clear();
+        latestSequence = 0;
+        capturedVersion = -1;
+    }
+
+    public Map<String, PlayerData> getSnapshot(int sequence) {
+        return history.get(sequence);
+    }
+
+    public synchronized int getLatestSequence() {
+        return latestSequence;
+    }
+
+    public synchronized long getFullSnapshots() {
+        return fullSnapshots;
+    }
+
+    public synchronized long getDeltaSnapshots() {
+        return deltaSnapshots;
+    }
+
+    public synchronized void tick(Collection<ClientConnection> clients) {
+        List<PlayerData> changed = capture();
+        if (latestSequence == 0) return;
+
+        Map<String, PlayerData> latest = history.get(latestSequence);
+        Map<Integer, EncodedMessage> snapshots = new HashMap<>();
+        List<EncodedMessage> legacyUpdates = null;
+        for (ClientConnection client : clients) {
+            if (client.isClosed()) continue;
+            if (client.getProtocolVersion() == MessageCodec.LEGACY_VERSION) {
+                if (changed.isEmpty()) continue;
+                if (legacyUpdates == null) {
+                    legacyUpdates = new ArrayList<>(changed.size());
+                    for (PlayerData player : changed) {
+                        legacyUpdates.add(new EncodedMessage(NetworkMessage.createPlayerUpdate(player)));
+                    }
+                }
+                for (EncodedMessage update : legacyUpdates) {
+                    client.send(update);
+                }
+                continue;
+            }
+
+            int baseline = client.nextSnapshotBaseline(latestSequence);
+            if (baseline == ClientConnection.NO_SNAPSHOT) continue;
+            Map<String, PlayerData> base = history.get(baseline);
+            int baselineSequence = base != null ? baseline : -1;
+            EncodedMessage snapshot = snapshots.computeIfAbsent(baselineSequence, seq -> new EncodedMessage(
+                    NetworkMessage.createStateSnapshot(latestSequence, seq, diff(base, latest))));
+            client.send(snapshot);
+            if (baselineSequence < 0) {
+                fullSnapshots++;
+            } else {
+                deltaSnapshots++;
+            }
+        }
+    }
+
+    private List<PlayerData> capture() {
+        if (dirtyPlayers.isEmpty()) return List.of();
+        dirtyPlayers.clear();
+        long version = dataManager.getVersion();
+        if (version == capturedVersion) return List.of();
+        capturedVersion = version;
+
+        Map<String, PlayerData> state = new HashMap<>();
+        for (PlayerData player : dataManager.snapshotPlayers()) {
+            state.put(player.playerId, player);
+        }
+
+        Map<String, PlayerData> previous = history.get(latestSequence);
+        List<PlayerData> changed = new ArrayList<>();
+        for (PlayerData player : state.values()) {
+            if (PlayerDelta.diff(previous != null ? previous.get(player.playerId) : null, player) != null) {
+                changed.add(player);
+            }
+        }
+        boolean removed = previous != null && !state.keySet().containsAll(previous.keySet());
+        if (changed.isEmpty() && !removed) return changed;
+
+        latestSequence++;
+        history.put(latestSequence, state);
+        return changed;
+    }
+
+    private static List<PlayerDelta> diff(Map<String, PlayerData> base, Map<String, PlayerData> latest) {
+        List<PlayerDelta> deltas = new ArrayList<>();
+        for (PlayerData player : latest.values()) {
+            PlayerDelta delta = PlayerDelta.diff(base != null ? base.get(player.playerId) : null, player);
+            if (delta != null) {
+                deltas.add(delta);
+            }
+        }
+        return deltas;
+    }
+}
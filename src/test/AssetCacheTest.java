@@ -0,0 +1,194 @@
+package test;
+
+import core.GameConfig;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.imageio.ImageIO;
+import util.AssetCache;
+
+public class AssetCacheTest {
+    private static final int LARGE_SIDE = 2400;
+
+    private File dir;
+
+    public static void main(String[] args) {
+        System.out.println("=== Asset Cache Test ===\n");
+        GameConfig.Debug.FILE_LOGGING_ENABLED = false;
+
+        AssetCacheTest test = new AssetCacheTest();
+        int passed = 0;
+        int total = 0;
+
+        try {
+            test.createAssets();
+
+            total++; if (test.testCacheHits()) passed++;
+            total++; if (test.testMissingAsset()) passed++;
+            total++; if (test.testLeastRecentlyUsedEviction()) passed++;
+            total++; if (test.testConcurrentLoadsDecodeOnce()) passed++;
+        } catch (Exception e) {
+            System.out.println("  ✗ Setup failed: " + e.getMessage());
+            total++;
+        } finally {
+            test.deleteAssets();
+        }
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed + "/" + total);
+        System.out.println(passed == total ? "✅ ALL TESTS PASSED" : "❌ SOME TESTS FAILED");
+
+        System.exit(passed == total ? 0 : 1);
+    }
+
+    private void createAssets() throws IOException {
+        dir = Files.createTempDirectory("asset-cache-test").toFile();
+        write("small.png", 40, 20);
+        write("shared.png", 40, 20);
+        write("a.png", LARGE_SIDE, LARGE_SIDE);
+        write("b.png", LARGE_SIDE, LARGE_SIDE);
+        write("c.png", LARGE_SIDE, LARGE_SIDE);
+    }
+
+    private void deleteAssets() {
+        AssetCache.clear();
+        if (dir == null) return;
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    public boolean testCacheHits() {
+        System.out.println("Test 1: Repeated Loads Hit The Cache");
+        try {
+            AssetCache.clear();
+            BufferedImage first = AssetCache.load(path("small.png"));
+            BufferedImage again = AssetCache.load(dir + "/./small.png");
+            assert first == again : "Equivalent paths should share one cached image";
+
+            BufferedImage scaled = AssetCache.getScaled(path("small.png"), 20, 10);
+            assert scaled.getWidth() == 20 && scaled.getHeight() == 10 : "Scaled image should have the requested size";
+            assert AssetCache.getScaled(path("small.png"), 20, 10) == scaled : "Scaled image should be cached";
+            assert AssetCache.getScaled(path("small.png"), 0, 0) == first : "Non-positive size should return the original";
+
+            System.out.println("  ✓ Originals and scaled copies are decoded once and reused");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testMissingAsset() {
+        System.out.println("\nTest 2: Missing Assets Fail Fast");
+        try {
+            AssetCache.clear();
+            String missing = path("missing.png");
+            for (int i = 0; i < 2; i++) {
+                try {
+                    AssetCache.load(missing);
+                    assert false : "Missing asset should throw";
+                } catch (IOException expected) {
+                }
+            }
+            assert AssetCache.get(missing) == null : "get() should return null for a missing asset";
+            assert !AssetCache.contains(missing) : "Missing asset should not be cached as an image";
+
+            System.out.println("  ✓ Missing file throws IOException every time and get() returns null");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testLeastRecentlyUsedEviction() {
+        System.out.println("\nTest 3: Over Budget Evicts The Least Recently Used");
+        try {
+            AssetCache.clear();
+            long evictionsBefore = stat("evictions");
+            AssetCache.load(path("a.png"));
+            AssetCache.load(path("b.png"));
+            AssetCache.load(path("a.png"));
+            AssetCache.load(path("c.png"));
+
+            assert AssetCache.contains(path("a.png")) : "Recently used image should stay";
+            assert !AssetCache.contains(path("b.png")) : "Least recently used image should be evicted";
+            assert AssetCache.contains(path("c.png")) : "Newest image should stay";
+            assert stat("evictions") == evictionsBefore + 1 : "Exactly one eviction expected";
+
+            System.out.println("  ✓ b.png evicted once three " + LARGE_SIDE + "px images exceeded "
+                    + GameConfig.Display.ASSET_CACHE_MAX_BYTES / (1024 * 1024) + "MB");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testConcurrentLoadsDecodeOnce() {
+        System.out.println("\nTest 4: Concurrent Loads Share One Decode");
+        try {
+            AssetCache.clear();
+            long missesBefore = stat("misses");
+            String shared = path("shared.png");
+            CountDownLatch ready = new CountDownLatch(1);
+            List<BufferedImage> results = new ArrayList<>();
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        ready.await();
+                        BufferedImage image = AssetCache.load(shared);
+                        synchronized (results) {
+                            results.add(image);
+                        }
+                    } catch (Exception e) {
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            ready.countDown();
+            for (Thread thread : threads) {
+                thread.join(5000);
+            }
+
+            assert results.size() == 8 : "Every caller should get the image, got " + results.size();
+            for (BufferedImage image : results) {
+                assert image == results.get(0) : "Callers should share one instance";
+            }
+            assert stat("misses") == missesBefore + 1 : "Only one caller should decode";
+
+            System.out.println("  ✓ 8 callers, 1 decode");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private String path(String name) {
+        return new File(dir, name).getPath();
+    }
+
+    private void write(String name, int width, int height) throws IOException {
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", new File(dir, name));
+    }
+
+    private static long stat(String name) {
+        Matcher matcher = Pattern.compile(name + " (\\d+)").matcher(AssetCache.getStats());
+        if (!matcher.find()) throw new IllegalStateException("No " + name + " in " + AssetCache.getStats());
+        return Long.parseLong(matcher.group(1));
+    }
+}
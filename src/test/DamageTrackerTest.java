@@ -0,0 +1,132 @@
+package test;
+
+import java.awt.Rectangle;
+import java.util.List;
+import util.DamageTracker;
+
+public class DamageTrackerTest {
+
+    public static void main(String[] args) {
+        System.out.println("=== Dirty Region Tracking Test ===\n");
+
+        DamageTrackerTest test = new DamageTrackerTest();
+        int passed = 0;
+        int total = 0;
+
+        total++; if (test.testTrackedEntities()) passed++;
+        total++; if (test.testVanishedEntity()) passed++;
+        total++; if (test.testClipAndMerge()) passed++;
+        total++; if (test.testFullRepaint()) passed++;
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed + "/" + total);
+        System.out.println(passed == total ? "✅ ALL TESTS PASSED" : "❌ SOME TESTS FAILED");
+
+        System.exit(passed == total ? 0 : 1);
+    }
+
+    public boolean testTrackedEntities() {
+        System.out.println("Test 1: Only Changed Entities Are Repainted");
+        try {
+            DamageTracker tracker = settled();
+            tracker.track("p1", new Rectangle(10, 10, 20, 20), 0);
+            assert tracker.drain().equals(List.of(new Rectangle(10, 10, 20, 20))) : "New entity should be repainted";
+
+            tracker.track("p1", new Rectangle(10, 10, 20, 20), 0);
+            assert tracker.drain().isEmpty() : "Unchanged entity should not be repainted";
+
+            tracker.track("p1", new Rectangle(10, 10, 20, 20), 1);
+            assert tracker.drain().equals(List.of(new Rectangle(10, 10, 20, 20))) : "State change should repaint in place";
+
+            tracker.track("p1", new Rectangle(100, 10, 20, 20), 1);
+            List<Rectangle> moved = tracker.drain();
+            assert moved.size() == 2 && moved.contains(new Rectangle(10, 10, 20, 20)) && moved.contains(new Rectangle(100, 10, 20, 20))
+                    : "Move should repaint the old and new bounds, got " + moved;
+
+            System.out.println("  ✓ New, restyled and moved entities repaint; idle ones do not");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testVanishedEntity() {
+        System.out.println("\nTest 2: Vanished Entity Clears Its Last Bounds");
+        try {
+            DamageTracker tracker = settled();
+            tracker.track("p1", new Rectangle(50, 50, 10, 10), 0);
+            tracker.drain();
+
+            assert tracker.drain().equals(List.of(new Rectangle(50, 50, 10, 10))) : "Untracked entity should be erased";
+            assert tracker.drain().isEmpty() : "Erased entity should be forgotten";
+
+            System.out.println("  ✓ Missing entity repainted once, then dropped");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testClipAndMerge() {
+        System.out.println("\nTest 3: Regions Are Clipped And Merged");
+        try {
+            DamageTracker tracker = settled();
+            tracker.add(null);
+            tracker.add(new Rectangle(10, 10, 0, 5));
+            tracker.add(new Rectangle(500, 500, 10, 10));
+            assert tracker.drain().isEmpty() : "Empty and off-screen regions should be ignored";
+
+            tracker.add(new Rectangle(-10, -10, 20, 20));
+            assert tracker.drain().equals(List.of(new Rectangle(0, 0, 10, 10))) : "Region should be clipped to the area";
+
+            tracker.add(new Rectangle(10, 10, 20, 20));
+            tracker.add(new Rectangle(100, 100, 10, 10));
+            tracker.add(new Rectangle(25, 25, 20, 20));
+            List<Rectangle> merged = tracker.drain();
+            assert merged.size() == 2 : "Overlapping regions should merge, got " + merged;
+            assert merged.contains(new Rectangle(10, 10, 35, 35)) && merged.contains(new Rectangle(100, 100, 10, 10))
+                    : "Merged region should be the union, got " + merged;
+
+            System.out.println("  ✓ Off-screen parts clipped, overlapping regions unioned");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testFullRepaint() {
+        System.out.println("\nTest 4: Falls Back To A Full Repaint");
+        try {
+            DamageTracker tracker = new DamageTracker();
+            tracker.setArea(200, 200);
+            assert tracker.drain().equals(List.of(new Rectangle(0, 0, 200, 200))) : "First area should repaint fully";
+            tracker.setArea(200, 200);
+            assert tracker.drain().isEmpty() : "Same size should not repaint";
+            tracker.setArea(300, 200);
+            assert tracker.drain().equals(List.of(new Rectangle(0, 0, 300, 200))) : "Resize should repaint fully";
+
+            tracker.add(new Rectangle(0, 0, 300, 150));
+            assert tracker.drain().equals(List.of(new Rectangle(0, 0, 300, 200))) : "Mostly damaged area should repaint fully";
+
+            tracker.addAll();
+            tracker.add(new Rectangle(0, 0, 10, 10));
+            assert tracker.drain().equals(List.of(new Rectangle(0, 0, 300, 200))) : "addAll should repaint fully";
+
+            System.out.println("  ✓ Resize, addAll and heavy damage repaint the whole area");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static DamageTracker settled() {
+        DamageTracker tracker = new DamageTracker();
+        tracker.setArea(200, 200);
+        tracker.drain();
+        return tracker;
+    }
+}
@@ -0,0 +1,122 @@
+package test;
+
+import network.*;
+import java.awt.Point;
+import java.io.*;
+import java.util.*;
+
+public class DeltaSyncTest {
+
+    public static void main(String[] args) {
+        System.out.println("=== Delta State Sync Test ===\n");
+
+        DeltaSyncTest test = new DeltaSyncTest();
+        int passed = 0;
+        int total = 0;
+
+        total++; if (test.testDiffMasks()) passed++;
+        total++; if (test.testApplyAgainstAckedBaseline()) passed++;
+        total++; if (test.testExpiredBaseline()) passed++;
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed + "/" + total);
+        System.out.println(passed == total ? "✅ ALL TESTS PASSED" : "❌ SOME TESTS FAILED");
+
+        System.exit(passed == total ? 0 : 1);
+    }
+
+    public boolean testDiffMasks() {
+        System.out.println("Test 1: Diff Marks Only Changed Fields");
+        try {
+            PlayerData base = new PlayerData("p1", "Player1", new Point(100, 100), "c1.png");
+            base.money = 100;
+
+            assert PlayerDelta.diff(base, base.copy()) == null : "Unchanged player should produce no delta";
+            assert PlayerDelta.diff(null, base).mask == PlayerDelta.FULL : "Missing baseline should produce a full delta";
+
+            PlayerData current = base.copy();
+            current.position = new Point(140, 100);
+            current.money = 75;
+            PlayerDelta delta = PlayerDelta.diff(base, current);
+            assert delta.mask == (PlayerDelta.POSITION | PlayerDelta.MONEY) : "Only position and money should be marked, mask=" + delta.mask;
+            assert delta.has(PlayerDelta.POSITION) && !delta.has(PlayerDelta.HEALTH) : "has() should follow the mask";
+
+            System.out.println("  ✓ No delta when unchanged, full delta without baseline, partial mask otherwise");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testApplyAgainstAckedBaseline() {
+        System.out.println("\nTest 2: Delta Applies On Top Of The Acked Snapshot");
+        try {
+            PlayerData base = new PlayerData("p1", "Player1", new Point(100, 100), "c1.png");
+            base.money = 100;
+            PlayerData other = new PlayerData("p2", "Player2", new Point(0, 0), "c2.png");
+
+            SnapshotHistory clientHistory = new SnapshotHistory(4);
+            Map<String, PlayerData> acked = new HashMap<>();
+            acked.put("p1", base.copy());
+            acked.put("p2", other.copy());
+            clientHistory.put(5, acked);
+
+            PlayerData current = base.copy();
+            current.position = new Point(140, 100);
+            current.money = 75;
+
+            NetworkMessage snapshot = roundTrip(NetworkMessage.createStateSnapshot(6, 5, List.of(PlayerDelta.diff(base, current))));
+            assert snapshot.baselineSequence == 5 && snapshot.deltas.size() == 1 : "Snapshot should reference the acked baseline";
+
+            Map<String, PlayerData> baseline = clientHistory.get(snapshot.baselineSequence);
+            assert baseline != null : "Client should still hold the acked baseline";
+            Map<String, PlayerData> state = new HashMap<>(baseline);
+            for (PlayerDelta received : snapshot.deltas) {
+                state.put(received.playerId, received.applyTo(baseline.get(received.playerId)));
+            }
+            clientHistory.put(snapshot.sequence, state);
+
+            PlayerData applied = state.get("p1");
+            assert applied.position.equals(new Point(140, 100)) && applied.money == 75 : "Changed fields should apply";
+            assert applied.playerName.equals("Player1") && applied.characterImage.equals("c1.png") : "Untouched fields should come from the baseline";
+            assert baseline.get("p1").money == 100 : "Applying should not mutate the baseline";
+            assert state.get("p2") == baseline.get("p2") : "Players without deltas should carry over";
+            assert clientHistory.get(6) == state : "Applied state should become the next baseline";
+
+            System.out.println("  ✓ Only changed fields travel and apply on top of snapshot 5");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testExpiredBaseline() {
+        System.out.println("\nTest 3: Expired Baseline Is Not Reused");
+        try {
+            SnapshotHistory history = new SnapshotHistory(4);
+            for (int sequence = 1; sequence <= 6; sequence++) {
+                history.put(sequence, Map.of());
+            }
+            assert history.get(2) == null : "Baseline older than the history should be gone";
+            assert history.get(3) != null && history.get(6) != null : "Recent baselines should remain";
+            assert history.get(-1) == null : "No baseline means a full snapshot";
+
+            history.clear();
+            assert history.get(6) == null : "Cleared history should hold nothing";
+
+            System.out.println("  ✓ Evicted or cleared baselines force a full snapshot");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static NetworkMessage roundTrip(NetworkMessage msg) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        MessageCodec.writeFrame(new DataOutputStream(bytes), msg, MessageCodec.PROTOCOL_VERSION);
+        return MessageCodec.readFrame(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
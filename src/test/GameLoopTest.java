@@ -0,0 +1,174 @@
+package test;
+
+import core.GameConfig;
+import core.GameLoop;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.SwingUtilities;
+
+public class GameLoopTest {
+    private static final int TICK_RATE = 100;
+    private static final int FPS = 50;
+
+    public static void main(String[] args) {
+        System.out.println("=== Game Loop Pacing Test ===\n");
+
+        GameLoopTest test = new GameLoopTest();
+        int passed = 0;
+        int total = 0;
+
+        total++; if (test.testFixedUpdateRate()) passed++;
+        total++; if (test.testCatchUpIsCapped()) passed++;
+        total++; if (test.testStopAndRestart()) passed++;
+        total++; if (test.testIsDue()) passed++;
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed + "/" + total);
+        System.out.println(passed == total ? "✅ ALL TESTS PASSED" : "❌ SOME TESTS FAILED");
+
+        System.exit(passed == total ? 0 : 1);
+    }
+
+    public boolean testFixedUpdateRate() {
+        System.out.println("Test 1: Updates Run At The Tick Rate On The EDT");
+        GameLoop loop = null;
+        try {
+            RecordingGame game = new RecordingGame();
+            loop = new GameLoop(game, TICK_RATE, FPS);
+            loop.start();
+            Thread.sleep(1000);
+            loop.stop();
+            Thread.sleep(100);
+
+            int updates = game.ticks.size();
+            assert updates >= TICK_RATE * 0.7 && updates <= TICK_RATE * 1.2 : "Expected about " + TICK_RATE + " updates, got " + updates;
+            assert game.renders >= FPS / 2 && game.renders <= FPS * 1.2 : "Expected about " + FPS + " renders, got " + game.renders;
+            for (int i = 0; i < updates; i++) {
+                assert game.ticks.get(i) == i : "Ticks should count up from 0";
+            }
+            assert !game.offEdt : "Update and render should run on the EDT";
+
+            System.out.println("  ✓ " + updates + " updates and " + game.renders + " renders in one second");
+            return true;
+        } catch (Exception | AssertionError e) {
+            if (loop != null) loop.stop();
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testCatchUpIsCapped() {
+        System.out.println("\nTest 2: Catch-Up After A Stall Is Capped");
+        GameLoop loop = null;
+        try {
+            RecordingGame game = new RecordingGame();
+            game.stallOnTick = 5;
+            loop = new GameLoop(game, TICK_RATE, FPS);
+            loop.start();
+            Thread.sleep(1500);
+            loop.stop();
+            Thread.sleep(100);
+
+            assert game.maxTicksPerFrame <= GameConfig.Game.MAX_CATCH_UP_TICKS
+                    : "A frame ran " + game.maxTicksPerFrame + " updates, cap is " + GameConfig.Game.MAX_CATCH_UP_TICKS;
+            assert game.ticks.size() < TICK_RATE * 1.5 * 0.9 : "Stalled time should be dropped, not replayed";
+
+            System.out.println("  ✓ At most " + game.maxTicksPerFrame + " updates per frame after a 500ms stall");
+            return true;
+        } catch (Exception | AssertionError e) {
+            if (loop != null) loop.stop();
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testStopAndRestart() {
+        System.out.println("\nTest 3: Stop Halts Updates And Restart Uses One Thread");
+        GameLoop loop = null;
+        try {
+            RecordingGame game = new RecordingGame();
+            loop = new GameLoop(game, TICK_RATE, FPS);
+            loop.start();
+            Thread.sleep(200);
+            loop.stop();
+            assert !loop.isRunning() : "Loop should report stopped";
+            Thread.sleep(100);
+            int stopped = game.ticks.size();
+            Thread.sleep(300);
+            assert game.ticks.size() == stopped : "No updates should run after stop";
+
+            loop.start();
+            loop.stop();
+            loop.start();
+            Thread.sleep(300);
+            assert game.ticks.size() > stopped : "Restarted loop should update again";
+            assert countThreads("Game-Loop") == 1 : "Only one loop thread should survive a restart, found " + countThreads("Game-Loop");
+            loop.stop();
+            Thread.sleep(100);
+            assert countThreads("Game-Loop") == 0 : "Loop thread should exit on stop";
+
+            System.out.println("  ✓ Stop is immediate, restart leaves a single Game-Loop thread");
+            return true;
+        } catch (Exception | AssertionError e) {
+            if (loop != null) loop.stop();
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testIsDue() {
+        System.out.println("\nTest 4: Interval Checks Follow The Tick Rate");
+        try {
+            GameLoop loop = new GameLoop(new RecordingGame(), TICK_RATE, FPS);
+            assert loop.isDue(0, 100) && loop.isDue(10, 100) && !loop.isDue(5, 100) : "100ms should be every 10 ticks";
+            assert loop.isDue(1, 1) && loop.isDue(7, 0) : "Intervals below one tick should fire every tick";
+
+            System.out.println("  ✓ Intervals round to whole ticks and never fall below one");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static int countThreads(String name) {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (name.equals(thread.getName()) && thread.isAlive()) count++;
+        }
+        return count;
+    }
+
+    private static class RecordingGame implements GameLoop.Game {
+        final List<Long> ticks = new ArrayList<>();
+        volatile int renders = 0;
+        volatile boolean offEdt = false;
+        volatile int maxTicksPerFrame = 0;
+        long stallOnTick = -1;
+        private int ticksThisFrame = 0;
+
+        @Override
+        public void update(long tick) {
+            if (!SwingUtilities.isEventDispatchThread()) offEdt = true;
+            synchronized (ticks) {
+                ticks.add(tick);
+            }
+            ticksThisFrame++;
+            if (tick == stallOnTick) {
+                try {
+                    Thread.sleep(500);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void render() {
+            if (!SwingUtilities.isEventDispatchThread()) offEdt = true;
+            maxTicksPerFrame = Math.max(maxTicksPerFrame, ticksThisFrame);
+            ticksThisFrame = 0;
+            renders++;
+        }
+    }
+}
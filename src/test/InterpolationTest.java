@@ -0,0 +1,112 @@
+package test;
+
+import core.GameConfig;
+import core.InterpolationBuffer;
+import java.awt.Point;
+
+public class InterpolationTest {
+    private static final long DELAY = GameConfig.Network.INTERPOLATION_DELAY;
+
+    public static void main(String[] args) {
+        System.out.println("=== Remote Player Interpolation Test ===\n");
+
+        InterpolationTest test = new InterpolationTest();
+        int passed = 0;
+        int total = 0;
+
+        total++; if (test.testInterpolatesBetweenSamples()) passed++;
+        total++; if (test.testIgnoresStaleAndRepeatedSamples()) passed++;
+        total++; if (test.testBoundedExtrapolation()) passed++;
+        total++; if (test.testSnapsOnTeleport()) passed++;
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed + "/" + total);
+        System.out.println(passed == total ? "✅ ALL TESTS PASSED" : "❌ SOME TESTS FAILED");
+
+        System.exit(passed == total ? 0 : 1);
+    }
+
+    public boolean testInterpolatesBetweenSamples() {
+        System.out.println("Test 1: Interpolates Between Samples");
+        try {
+            InterpolationBuffer buffer = new InterpolationBuffer(GameConfig.Network.INTERPOLATION_BUFFER_SIZE);
+            assert buffer.sample(1000) == null : "Empty buffer has no sample";
+
+            buffer.push(1000, new Point(0, 0));
+            assert buffer.sample(5000).equals(new Point(0, 0)) : "Single sample should be held";
+
+            buffer.push(1100, new Point(100, 0));
+            assert buffer.sample(1050 + DELAY).equals(new Point(50, 0)) : "Midpoint should interpolate";
+            assert buffer.sample(1025 + DELAY).equals(new Point(25, 0)) : "Quarter point should interpolate";
+            assert buffer.sample(900 + DELAY).equals(new Point(0, 0)) : "Before the first sample should clamp";
+
+            System.out.println("  ✓ Renders " + DELAY + "ms behind, blending the two surrounding samples");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testIgnoresStaleAndRepeatedSamples() {
+        System.out.println("\nTest 2: Ignores Stale And Repeated Samples");
+        try {
+            InterpolationBuffer buffer = new InterpolationBuffer(GameConfig.Network.INTERPOLATION_BUFFER_SIZE);
+            buffer.push(1000, new Point(0, 0));
+            buffer.push(1100, new Point(100, 0));
+
+            buffer.push(1200, new Point(100, 0));
+            assert buffer.getLatestTime() == 1100 : "Unchanged position should not add a sample";
+            buffer.push(1050, new Point(150, 0));
+            assert buffer.getLatestTime() == 1100 : "Older timestamp should be ignored";
+            buffer.push(1100, new Point(150, 0));
+            assert buffer.getLatestTime() == 1100 : "Equal timestamp should be ignored";
+            assert buffer.sample(1050 + DELAY).equals(new Point(50, 0)) : "Ignored samples should not bend the path";
+
+            System.out.println("  ✓ Only newer samples with a new position are kept");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testBoundedExtrapolation() {
+        System.out.println("\nTest 3: Extrapolation Is Bounded");
+        try {
+            long limit = GameConfig.Network.MAX_EXTRAPOLATION;
+            InterpolationBuffer buffer = new InterpolationBuffer(GameConfig.Network.INTERPOLATION_BUFFER_SIZE);
+            buffer.push(1000, new Point(0, 0));
+            buffer.push(1100, new Point(100, 0));
+
+            Point ahead = buffer.sample(1100 + DELAY + limit / 2);
+            assert ahead.equals(new Point(100 + (int) (limit / 2), 0)) : "Short gap should extrapolate along the last velocity, got " + ahead;
+            assert buffer.sample(1100 + DELAY + 2 * limit).equals(new Point(100, 0)) : "Long gap should settle on the last sample";
+
+            System.out.println("  ✓ Short gaps extrapolate, long gaps settle on the last known position");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testSnapsOnTeleport() {
+        System.out.println("\nTest 4: Snaps On Teleport");
+        try {
+            int far = 100 + GameConfig.Network.INTERPOLATION_SNAP_DISTANCE + 1;
+            InterpolationBuffer buffer = new InterpolationBuffer(GameConfig.Network.INTERPOLATION_BUFFER_SIZE);
+            buffer.push(1000, new Point(0, 0));
+            buffer.push(1100, new Point(100, 0));
+            buffer.push(1200, new Point(far, 0));
+
+            assert buffer.sample(1150 + DELAY).equals(new Point(far, 0)) : "Teleport should not be blended";
+
+            System.out.println("  ✓ Jumps beyond " + GameConfig.Network.INTERPOLATION_SNAP_DISTANCE + "px reset the buffer");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package test;
+
+import core.Debug;
+import core.GameConfig;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+public class LoggingTest {
+    private static final int CAPACITY = 16;
+    private static final PrintStream console = System.out;
+    private static final Gate gate = new Gate();
+
+    public static void main(String[] args) {
+        GameConfig.Debug.FILE_LOGGING_ENABLED = false;
+        GameConfig.Debug.LOG_BUFFER_CAPACITY = CAPACITY;
+        GameConfig.Debug.LOG_BATCH_SIZE = 4;
+        GameConfig.Debug.LOG_FLUSH_INTERVAL = 10;
+        GameConfig.Debug.LOG_OVERFLOW_POLICY = Debug.OverflowPolicy.DROP;
+        System.setOut(new PrintStream(gate, true));
+        System.setErr(new PrintStream(gate, true));
+
+        console.println("=== Debug Logger Overflow Test ===\n");
+
+        LoggingTest test = new LoggingTest();
+        int passed = 0;
+        int total = 0;
+
+        total++; if (test.testDropPolicy()) passed++;
+        total++; if (test.testBlockPolicy()) passed++;
+        total++; if (test.testSurvivesInterrupt()) passed++;
+
+        console.println("\n=== Test Results ===");
+        console.println("Passed: " + passed + "/" + total);
+        console.println(passed == total ? "✅ ALL TESTS PASSED" : "❌ SOME TESTS FAILED");
+
+        System.exit(passed == total ? 0 : 1);
+    }
+
+    public boolean testDropPolicy() {
+        console.println("Test 1: DROP Never Blocks Callers");
+        try {
+            GameConfig.Debug.LOG_OVERFLOW_POLICY = Debug.OverflowPolicy.DROP;
+            stallWriter("drop-stall");
+
+            long start = System.nanoTime();
+            for (int i = 0; i < 50; i++) {
+                Debug.log("drop-" + i);
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            assert elapsedMillis < 1000 : "Logging took " + elapsedMillis + "ms while the writer was stalled";
+            assert Debug.getDroppedRecords() == 50 - CAPACITY : "Expected " + (50 - CAPACITY) + " drops, got " + Debug.getDroppedRecords();
+
+            gate.release();
+            assert awaitOutput("Dropped " + (50 - CAPACITY) + " log record(s)") : "Drop notice should be written";
+            assert awaitOutput("drop-" + (CAPACITY - 1)) : "Buffered records should be written";
+            assert !gate.text().contains("drop-" + CAPACITY + "\n") : "Dropped records should not appear";
+
+            console.println("  ✓ Overflow dropped " + (50 - CAPACITY) + " records without blocking and reported them");
+            return true;
+        } catch (Exception | AssertionError e) {
+            gate.release();
+            console.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testBlockPolicy() {
+        console.println("\nTest 2: BLOCK Waits For Space");
+        try {
+            GameConfig.Debug.LOG_OVERFLOW_POLICY = Debug.OverflowPolicy.BLOCK;
+            stallWriter("block-stall");
+            for (int i = 0; i < CAPACITY; i++) {
+                Debug.log("block-fill-" + i);
+            }
+
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < 10; i++) {
+                    Debug.log("block-extra-" + i);
+                }
+            }, "Block-Producer");
+            producer.start();
+            producer.join(300);
+            assert producer.isAlive() && producer.getState() == Thread.State.WAITING : "Producer should wait while the buffer is full";
+
+            gate.release();
+            producer.join(5000);
+            assert !producer.isAlive() : "Producer should finish once the writer drains";
+            assert awaitOutput("block-extra-9") : "Every blocked record should be written";
+            assert Debug.getDroppedRecords() == 0 : "BLOCK should not drop records";
+
+            console.println("  ✓ Caller waited for the writer and no record was lost");
+            return true;
+        } catch (Exception | AssertionError e) {
+            gate.release();
+            console.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        } finally {
+            GameConfig.Debug.LOG_OVERFLOW_POLICY = Debug.OverflowPolicy.DROP;
+        }
+    }
+
+    public boolean testSurvivesInterrupt() {
+        console.println("\nTest 3: Writer Survives Interrupts");
+        try {
+            Thread writer = findThread("Debug-Logger-Thread");
+            assert writer != null : "Logger thread should exist";
+            for (int i = 0; i < 5; i++) {
+                writer.interrupt();
+                Thread.sleep(20);
+            }
+            assert writer.isAlive() : "Interrupt should not stop the logger";
+
+            Debug.log("after-interrupt");
+            assert awaitOutput("after-interrupt") : "Records after an interrupt should still be written";
+
+            console.println("  ✓ Logging continues after the writer is interrupted");
+            return true;
+        } catch (Exception | AssertionError e) {
+            console.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static void stallWriter(String marker) throws InterruptedException {
+        gate.stall();
+        Debug.log(marker);
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!gate.isHoldingWriter() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assert gate.isHoldingWriter() : "Writer should be stalled on output";
+    }
+
+    private static boolean awaitOutput(String text) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (System.currentTimeMillis() < deadline) {
+            if (gate.text().contains(text)) return true;
+            Thread.sleep(10);
+        }
+        return false;
+    }
+
+    private static Thread findThread(String name) {
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (name.equals(thread.getName())) return thread;
+        }
+        return null;
+    }
+
+    private static class Gate extends OutputStream {
+        private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        private boolean stalled = false;
+        private boolean holding = false;
+
+        synchronized void stall() {
+            stalled = true;
+        }
+
+        synchronized void release() {
+            stalled = false;
+            notifyAll();
+        }
+
+        synchronized boolean isHoldingWriter() {
+            return holding;
+        }
+
+        synchronized String text() {
+            return captured.toString();
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            awaitRelease();
+            captured.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] bytes, int offset, int length) {
+            awaitRelease();
+            captured.write(bytes, offset, length);
+        }
+
+        private void awaitRelease() {
+            while (stalled) {
+                holding = true;
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            holding = false;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package test;
+
+import network.NetworkMessage.MessageType;
+import network.OutboundQueue;
+import network.OutboundQueue.Frame;
+import network.OutboundQueue.OverflowPolicy;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+public class OutboundQueueTest {
+
+    public static void main(String[] args) {
+        System.out.println("=== Outbound Queue Overflow Test ===\n");
+
+        OutboundQueueTest test = new OutboundQueueTest();
+        int passed = 0;
+        int total = 0;
+
+        total++; if (test.testDisconnectPolicy()) passed++;
+        total++; if (test.testDropOldestMove()) passed++;
+        total++; if (test.testSnapshotsReplaceUnsent()) passed++;
+        total++; if (test.testCoalescePolicy()) passed++;
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed + "/" + total);
+        System.out.println(passed == total ? "✅ ALL TESTS PASSED" : "❌ SOME TESTS FAILED");
+
+        System.exit(passed == total ? 0 : 1);
+    }
+
+    public boolean testDisconnectPolicy() {
+        System.out.println("Test 1: Disconnect Policy Refuses Overflow");
+        try {
+            OutboundQueue queue = new OutboundQueue(4, OverflowPolicy.DISCONNECT);
+            for (int i = 0; i < 4; i++) {
+                assert queue.offer(frame(MessageType.PLAYER_MOVE, "p1", i)) : "Frame " + i + " should fit";
+            }
+            assert !queue.offer(frame(MessageType.STATE_SNAPSHOT, null, 4)) : "Full queue should refuse";
+            assert queue.getDepth() == 4 && queue.getMaxDepth() == 4 : "Depth should stay at capacity";
+
+            System.out.println("  ✓ Fifth frame refused, caller disconnects");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testDropOldestMove() {
+        System.out.println("\nTest 2: Drop Oldest Move");
+        try {
+            OutboundQueue queue = new OutboundQueue(4, OverflowPolicy.DROP_OLDEST_MOVE);
+            queue.offer(frame(MessageType.PLAYER_JOIN, "p1", 0));
+            queue.offer(frame(MessageType.PLAYER_MOVE, "p1", 1));
+            queue.offer(frame(MessageType.PLAYER_MOVE, "p2", 2));
+            queue.offer(frame(MessageType.TURN_CHANGE, "p1", 3));
+
+            assert queue.offer(frame(MessageType.TURN_CHANGE, "p2", 4)) : "Turn change should evict a move";
+            assert queue.getDroppedFrames() == 1 : "One move should be dropped";
+            assert order(queue, 4).equals(List.of(0, 2, 3, 4)) : "Oldest move should be the one dropped";
+
+            queue.offer(frame(MessageType.PLAYER_JOIN, "p1", 0));
+            queue.offer(frame(MessageType.PLAYER_JOIN, "p2", 1));
+            queue.offer(frame(MessageType.TURN_CHANGE, "p1", 2));
+            queue.offer(frame(MessageType.TURN_CHANGE, "p2", 3));
+            assert !queue.offer(frame(MessageType.PLAYER_LEAVE, "p1", 4)) : "Nothing droppable should refuse";
+
+            System.out.println("  ✓ Oldest move evicted, reliable frames kept in order");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testSnapshotsReplaceUnsent() {
+        System.out.println("\nTest 3: Newer Snapshots Replace Unsent Ones");
+        try {
+            for (OverflowPolicy policy : new OverflowPolicy[] {OverflowPolicy.DROP_OLDEST_MOVE, OverflowPolicy.COALESCE}) {
+                OutboundQueue queue = new OutboundQueue(4, policy);
+                for (int i = 0; i < 100; i++) {
+                    assert queue.offer(frame(MessageType.STATE_SNAPSHOT, null, i)) : policy + " should accept snapshot " + i;
+                }
+                assert queue.getDepth() == 4 : policy + " depth should stay at capacity";
+                assert queue.getCoalescedFrames() == 96 : policy + " should replace 96 snapshots";
+                assert order(queue, 4).equals(List.of(96, 97, 98, 99)) : policy + " should keep the newest snapshots";
+            }
+
+            System.out.println("  ✓ A stalled client keeps only the latest snapshots");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testCoalescePolicy() {
+        System.out.println("\nTest 4: Coalesce Per Player");
+        try {
+            OutboundQueue queue = new OutboundQueue(3, OverflowPolicy.COALESCE);
+            queue.offer(frame(MessageType.PLAYER_STATS_UPDATE, "p1", 0));
+            queue.offer(frame(MessageType.PLAYER_MOVE, "p2", 1));
+            queue.offer(frame(MessageType.PLAYER_JOIN, "p3", 2));
+
+            assert queue.offer(frame(MessageType.PLAYER_STATS_UPDATE, "p1", 3)) : "Newer stats should replace older";
+            assert queue.getCoalescedFrames() == 1 && queue.getDroppedFrames() == 0 : "Replacement should count as coalesced";
+            assert order(queue, 3).equals(List.of(1, 2, 3)) : "Stale stats should be gone";
+
+            System.out.println("  ✓ Newer update for the same player replaces the queued one");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static Frame frame(MessageType type, String playerId, int marker) {
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        buffer.putInt(0, marker);
+        return new Frame(type, playerId, buffer);
+    }
+
+    private static List<Integer> order(OutboundQueue queue, int count) {
+        ByteBuffer[] drained = new ByteBuffer[count + 1];
+        int n = queue.drainTo(drained);
+        Integer[] markers = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            markers[i] = drained[i].getInt(0);
+        }
+        return List.of(markers);
+    }
+}
@@ -0,0 +1,187 @@
+package test;
+
+import core.PlayerState;
+import network.*;
+import java.awt.Point;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+public class ProtocolTest {
+
+    public static void main(String[] args) {
+        System.out.println("=== Wire Protocol Test ===\n");
+
+        ProtocolTest test = new ProtocolTest();
+        int passed = 0;
+        int total = 0;
+
+        total++; if (test.testBinaryRoundTrip()) passed++;
+        total++; if (test.testRejectsUnknownFrames()) passed++;
+        total++; if (test.testLegacyPayloadBeforeHandshake()) passed++;
+        total++; if (test.testLegacyFilterRejectsForeignClasses()) passed++;
+        total++; if (test.testLegacyStreamChunks()) passed++;
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed + "/" + total);
+        System.out.println(passed == total ? "✅ ALL TESTS PASSED" : "❌ SOME TESTS FAILED");
+
+        System.exit(passed == total ? 0 : 1);
+    }
+
+    public boolean testBinaryRoundTrip() {
+        System.out.println("Test 1: Binary Round Trip");
+        try {
+            PlayerData data = new PlayerData("p1", "Player1", new Point(120, 340), "c1.png",
+                    250, 80, 60, PlayerState.Location.BANK);
+            data.remainingTime = 17;
+            NetworkMessage join = roundTrip(NetworkMessage.createPlayerJoin(data));
+            assert join.type == NetworkMessage.MessageType.PLAYER_JOIN : "Type should survive";
+            assert join.playerData.playerId.equals("p1") && join.playerData.playerName.equals("Player1") : "Ids should survive";
+            assert join.playerData.position.equals(new Point(120, 340)) : "Position should survive";
+            assert join.playerData.money == 250 && join.playerData.health == 80 && join.playerData.energy == 60 : "Stats should survive";
+            assert join.playerData.remainingTime == 17 : "Time should survive";
+            assert join.playerData.currentLocation == PlayerState.Location.BANK : "Location should survive";
+
+            NetworkMessage hello = roundTrip(NetworkMessage.createHello(MessageCodec.PROTOCOL_VERSION));
+            assert hello.protocolVersion == MessageCodec.PROTOCOL_VERSION : "Hello version should survive";
+
+            NetworkMessage move = roundTrip(NetworkMessage.createPlayerMove("p2", new Point(5, 6)));
+            assert move.playerData.playerId.equals("p2") && move.playerData.position.equals(new Point(5, 6)) : "Move should survive";
+
+            System.out.println("  ✓ Join, move and hello frames round trip");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testRejectsUnknownFrames() {
+        System.out.println("\nTest 2: Unknown Types and Versions Are Rejected");
+        try {
+            byte[] payload = MessageCodec.encode(NetworkMessage.createHeartbeat("p1"), MessageCodec.PROTOCOL_VERSION);
+
+            byte[] unknownType = payload.clone();
+            unknownType[1] = (byte) 200;
+            assert rejects(unknownType, true) : "Unknown message id should be rejected";
+
+            byte[] oldVersion = payload.clone();
+            oldVersion[0] = (byte) (MessageCodec.PROTOCOL_VERSION - 1);
+            assert rejects(oldVersion, true) : "Mismatched protocol version should be rejected";
+
+            byte[] hello = MessageCodec.encode(NetworkMessage.createHello(1), MessageCodec.PROTOCOL_VERSION);
+            hello[0] = 1;
+            assert MessageCodec.decode(hello, 0, hello.length, false).protocolVersion == 1 : "Hello should decode across versions";
+
+            Set<Byte> ids = new HashSet<>();
+            for (NetworkMessage.MessageType type : NetworkMessage.MessageType.values()) {
+                assert ids.add(type.id) : "Duplicate wire id " + type.id;
+                assert NetworkMessage.MessageType.fromId(type.id) == type : "Wire id should map back to " + type;
+            }
+
+            System.out.println("  ✓ Unknown ids and stale versions fail, wire ids are unique");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testLegacyPayloadBeforeHandshake() {
+        System.out.println("\nTest 3: Serialized Payloads Only Before Handshake");
+        try {
+            PlayerData data = new PlayerData("p1", "Player1", new Point(10, 20), "c1.png");
+            byte[] payload = MessageCodec.encode(NetworkMessage.createPlayerJoin(data), MessageCodec.LEGACY_VERSION);
+
+            NetworkMessage decoded = MessageCodec.decode(payload, 0, payload.length, true);
+            assert decoded.type == NetworkMessage.MessageType.PLAYER_JOIN : "Legacy join should decode before handshake";
+            assert decoded.playerData.position.equals(new Point(10, 20)) : "Legacy position should survive";
+            assert rejects(payload, false) : "Legacy payload should be refused after handshake";
+
+            System.out.println("  ✓ Serialized join accepted before HELLO and refused after");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testLegacyFilterRejectsForeignClasses() {
+        System.out.println("\nTest 4: Legacy Filter Rejects Foreign Classes");
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(new HashMap<>(Map.of("key", "value")));
+            }
+            byte[] payload = bytes.toByteArray();
+            assert rejects(payload, true) : "HashMap payload should be rejected by the filter";
+
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(stream)) {
+                out.writeObject(new ArrayList<>(List.of("a")));
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(stream.toByteArray()))) {
+                in.setObjectInputFilter(MessageCodec.LEGACY_STREAM_FILTER);
+                in.readObject();
+                assert false : "Stream filter should reject ArrayList";
+            } catch (InvalidClassException expected) {
+            }
+
+            System.out.println("  ✓ Frame and stream filters refuse classes outside the allow-list");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testLegacyStreamChunks() {
+        System.out.println("\nTest 5: Legacy Stream Chunks Decode As One Object Stream");
+        try {
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            write(stream, MessageCodec.streamHeader());
+            write(stream, MessageCodec.encodeFrame(NetworkMessage.createPlayerJoin(
+                    new PlayerData("p1", "Player1", new Point(1, 2), "c1.png")), MessageCodec.LEGACY_VERSION));
+            write(stream, MessageCodec.encodeFrame(NetworkMessage.createPlayerMove("p1", new Point(3, 4)), MessageCodec.LEGACY_VERSION));
+            write(stream, MessageCodec.encodeFrame(NetworkMessage.createPlayerLeave("p1"), MessageCodec.LEGACY_VERSION));
+
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(stream.toByteArray()))) {
+                in.setObjectInputFilter(MessageCodec.LEGACY_STREAM_FILTER);
+                NetworkMessage join = (NetworkMessage) in.readObject();
+                NetworkMessage move = (NetworkMessage) in.readObject();
+                NetworkMessage leave = (NetworkMessage) in.readObject();
+                assert join.type == NetworkMessage.MessageType.PLAYER_JOIN : "First chunk should be the join";
+                assert move.playerData.position.equals(new Point(3, 4)) : "Second chunk should carry the move";
+                assert leave.type == NetworkMessage.MessageType.PLAYER_LEAVE : "Third chunk should be the leave";
+            }
+
+            System.out.println("  ✓ Header plus reset-prefixed chunks read back with a plain ObjectInputStream");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static NetworkMessage roundTrip(NetworkMessage msg) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        MessageCodec.writeFrame(new DataOutputStream(bytes), msg, MessageCodec.PROTOCOL_VERSION);
+        return MessageCodec.readFrame(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    private static boolean rejects(byte[] payload, boolean allowLegacy) {
+        try {
+            MessageCodec.decode(payload, 0, payload.length, allowLegacy);
+            return false;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private static void write(ByteArrayOutputStream out, ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        out.write(bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,143 @@
+package test;
+
+import core.PathFinder;
+import core.PlayerState;
+import core.RoadGraph;
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class RoadGraphTest {
+    private static final List<Point> RING = List.of(
+            new Point(0, 0), new Point(100, 0), new Point(200, 0), new Point(200, 100),
+            new Point(200, 200), new Point(100, 200), new Point(0, 200), new Point(0, 100));
+
+    public static void main(String[] args) {
+        System.out.println("=== Road Graph Routing Test ===\n");
+
+        RoadGraphTest test = new RoadGraphTest();
+        int passed = 0;
+        int total = 0;
+
+        total++; if (test.testRingTakesShorterDirection()) passed++;
+        total++; if (test.testJunctionShortcut()) passed++;
+        total++; if (test.testEdgeCases()) passed++;
+        total++; if (test.testPathFinderSnapsToRoads()) passed++;
+        total++; if (test.testLocationRoutes()) passed++;
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed + "/" + total);
+        System.out.println(passed == total ? "✅ ALL TESTS PASSED" : "❌ SOME TESTS FAILED");
+
+        System.exit(passed == total ? 0 : 1);
+    }
+
+    public boolean testRingTakesShorterDirection() {
+        System.out.println("Test 1: Ring Routes Take The Shorter Direction");
+        try {
+            RoadGraph graph = RoadGraph.fromRing(RING, List.of());
+            assert Arrays.equals(graph.findRoute(0, 2), new int[] {0, 1, 2}) : "0 -> 2 should go forward";
+            assert Arrays.equals(graph.findRoute(0, 6), new int[] {0, 7, 6}) : "0 -> 6 should wrap backwards";
+            assert Arrays.equals(graph.findRoute(7, 1), new int[] {7, 0, 1}) : "7 -> 1 should cross the ring seam";
+
+            System.out.println("  ✓ Routes follow the ring in whichever direction is shorter");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testJunctionShortcut() {
+        System.out.println("\nTest 2: Junctions Shorten Routes");
+        try {
+            RoadGraph ring = RoadGraph.fromRing(RING, List.of());
+            assert ring.findRoute(0, 4).length == 5 : "Without a junction 0 -> 4 goes half way round";
+
+            RoadGraph graph = RoadGraph.fromRing(RING, List.of(new int[] {0, 4}));
+            assert Arrays.equals(graph.findRoute(0, 4), new int[] {0, 4}) : "Diagonal junction should be taken";
+            assert Arrays.equals(graph.findRoute(1, 4), new int[] {1, 2, 3, 4}) : "Junction should not be forced when longer";
+
+            System.out.println("  ✓ A* takes the diagonal junction only when it is shorter");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testEdgeCases() {
+        System.out.println("\nTest 3: Same, Unreachable And Unknown Nodes");
+        try {
+            RoadGraph graph = new RoadGraph(List.of(new Point(0, 0), new Point(100, 0), new Point(500, 500)),
+                    List.<int[]>of(new int[] {0, 1}));
+            assert Arrays.equals(graph.findRoute(1, 1), new int[] {1}) : "Same node should route to itself";
+            assert graph.findRoute(0, 2).length == 0 : "Disconnected node should have no route";
+            try {
+                graph.findRoute(0, 3);
+                assert false : "Unknown node should be rejected";
+            } catch (IllegalArgumentException expected) {
+            }
+            assert new RoadGraph(List.of(), List.of()).findNearestNode(new Point(0, 0)) == -1 : "Empty graph has no nearest node";
+
+            System.out.println("  ✓ Self route, empty route and IllegalArgumentException as expected");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testPathFinderSnapsToRoads() {
+        System.out.println("\nTest 4: Paths Snap To The Nearest Road Nodes");
+        try {
+            PathFinder finder = new PathFinder(RoadGraph.fromRing(RING, List.of()), Map.of());
+            Point from = new Point(-10, 5);
+            Point to = new Point(5, 190);
+            List<Point> path = finder.findPath(from, to);
+            assert path.equals(List.of(from, new Point(0, 0), new Point(0, 100), new Point(0, 200), to))
+                    : "Path should walk the road between the snapped nodes, got " + path;
+
+            List<Point> onNode = finder.findPath(new Point(100, 0), new Point(200, 0));
+            assert onNode.equals(List.of(new Point(100, 0), new Point(200, 0))) : "Duplicate points should be dropped, got " + onNode;
+
+            List<Point> direct = new PathFinder(new RoadGraph(List.of(), List.of()), Map.of()).findPath(from, to);
+            assert direct.get(direct.size() - 1).equals(to) : "Without roads the path should still end at the target";
+
+            System.out.println("  ✓ Path runs start -> road nodes -> target, direct path without roads");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testLocationRoutes() {
+        System.out.println("\nTest 5: Location Routes Are Precomputed");
+        try {
+            Map<PlayerState.Location, Point> anchors = new EnumMap<>(PlayerState.Location.class);
+            anchors.put(PlayerState.Location.BANK, new Point(0, 0));
+            anchors.put(PlayerState.Location.TECH, new Point(200, 100));
+            RoadGraph graph = RoadGraph.fromRing(RING, List.of());
+            PathFinder finder = new PathFinder(graph, anchors);
+
+            List<Point> route = finder.findPath(PlayerState.Location.BANK, PlayerState.Location.TECH);
+            assert route.equals(finder.findPath(new Point(0, 0), new Point(200, 100))) : "Cached route should match a fresh search";
+            assert route == finder.findPath(PlayerState.Location.BANK, PlayerState.Location.TECH) : "Route should be served from the table";
+            try {
+                route.add(new Point());
+                assert false : "Cached route should be read-only";
+            } catch (UnsupportedOperationException expected) {
+            }
+            assert finder.findPath(PlayerState.Location.BANK, PlayerState.Location.CULTURE) == null : "Unknown location has no route";
+
+            System.out.println("  ✓ Anchor-to-anchor routes are read-only table lookups");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package test;
+
+import core.GameConfig;
+import network.*;
+import network.NetworkMessage.MessageType;
+import java.awt.Point;
+import java.io.*;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+public class RoomTest {
+    private static final int PORT = GameConfig.Network.SERVER_PORT + 2;
+    private static final int CAPACITY = GameConfig.Game.MAX_PLAYERS_PER_ROOM;
+
+    private GameServerCore server;
+    private final List<RawClient> firstRoom = new ArrayList<>();
+    private RawClient overflow;
+
+    public static void main(String[] args) {
+        System.out.println("=== Room Assignment Test ===\n");
+        GameConfig.Debug.FILE_LOGGING_ENABLED = false;
+
+        RoomTest test = new RoomTest();
+        int passed = 0;
+        int total = 0;
+
+        try {
+            test.startServer();
+
+            total++; if (test.testFillsFirstRoom()) passed++;
+            total++; if (test.testOverflowOpensNewRoom()) passed++;
+            total++; if (test.testRoomsAreIsolated()) passed++;
+            total++; if (test.testFreedSlotIsReused()) passed++;
+            total++; if (test.testEmptyRoomCloses()) passed++;
+        } catch (Exception e) {
+            System.out.println("  ✗ Setup failed: " + e.getMessage());
+            total++;
+        } finally {
+            test.stopServer();
+        }
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed + "/" + total);
+        System.out.println(passed == total ? "✅ ALL TESTS PASSED" : "❌ SOME TESTS FAILED");
+
+        System.exit(passed == total ? 0 : 1);
+    }
+
+    private void startServer() throws IOException {
+        server = new GameServerCore(PORT, new GameServerCore.Listener() {
+            @Override
+            public void onLog(String message) {
+            }
+
+            @Override
+            public void onPlayersChanged() {
+            }
+
+            @Override
+            public void onQueueMetrics(String summary) {
+            }
+        });
+        server.start();
+    }
+
+    private void stopServer() {
+        for (RawClient client : firstRoom) {
+            client.close();
+        }
+        if (overflow != null) overflow.close();
+        if (server != null) server.stop();
+    }
+
+    public boolean testFillsFirstRoom() {
+        System.out.println("Test 1: Players Fill The First Room");
+        try {
+            for (int i = 1; i <= CAPACITY; i++) {
+                RawClient client = RawClient.join("r" + i);
+                firstRoom.add(client);
+                assert joinedRoom(client) == 1 : "Player r" + i + " should land in room 1";
+            }
+            assert server.getRooms().size() == 1 : "Only one room should be open, rooms=" + server.getRooms().size();
+            assert server.getRoom(1).getMemberCount() == CAPACITY : "Room 1 should be full";
+
+            System.out.println("  ✓ " + CAPACITY + " players share room 1");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testOverflowOpensNewRoom() {
+        System.out.println("\nTest 2: A Full Room Opens The Next One");
+        try {
+            overflow = RawClient.join("r" + (CAPACITY + 1));
+            assert joinedRoom(overflow) == 2 : "Overflow player should land in room 2";
+            assert server.getRooms().size() == 2 : "Two rooms should be open, rooms=" + server.getRooms().size();
+            assert server.getPlayerCount() == CAPACITY + 1 : "Every player should be counted once";
+
+            System.out.println("  ✓ Player " + (CAPACITY + 1) + " opened room 2");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testRoomsAreIsolated() {
+        System.out.println("\nTest 3: Rooms Do Not See Each Other");
+        try {
+            String overflowId = "r" + (CAPACITY + 1);
+            assert overflow.await(m -> m.type == MessageType.PLAYER_JOIN && !overflowId.equals(m.playerData.playerId), 1000) == null
+                    : "Room 2 should not receive room 1 players";
+            assert firstRoom.get(0).await(m -> m.type == MessageType.PLAYER_JOIN && overflowId.equals(m.playerData.playerId), 1000) == null
+                    : "Room 1 should not receive room 2 players";
+
+            overflow.send(NetworkMessage.createPlayerMove(overflowId, new Point(300, 300)));
+            assert firstRoom.get(0).await(m -> m.type == MessageType.STATE_SNAPSHOT && m.deltas.stream()
+                    .anyMatch(d -> overflowId.equals(d.playerId)), 1000) == null : "Room 2 moves should stay in room 2";
+
+            System.out.println("  ✓ Joins and moves stay inside their room");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testFreedSlotIsReused() {
+        System.out.println("\nTest 4: Freed Slot Goes To The Lowest Open Room");
+        try {
+            RawClient leaving = firstRoom.remove(1);
+            leaving.send(NetworkMessage.createPlayerLeave("r2"));
+            Thread.sleep(300);
+            leaving.close();
+            Thread.sleep(500);
+            assert server.getRoom(1).getMemberCount() == CAPACITY - 1 : "Leaving should free a slot in room 1";
+
+            RawClient joiner = RawClient.join("r" + (CAPACITY + 2));
+            firstRoom.add(joiner);
+            assert joinedRoom(joiner) == 1 : "New player should fill room 1 before room 2";
+
+            System.out.println("  ✓ Room 1 reopened and was filled before room 2");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testEmptyRoomCloses() {
+        System.out.println("\nTest 5: Empty Room Closes");
+        try {
+            overflow.send(NetworkMessage.createPlayerLeave("r" + (CAPACITY + 1)));
+            Thread.sleep(300);
+            overflow.close();
+            overflow = null;
+            Thread.sleep(500);
+            assert server.getRoom(2) == null : "Room 2 should close once its last player leaves";
+            assert server.getRooms().size() == 1 : "Only room 1 should remain, rooms=" + server.getRooms().size();
+
+            System.out.println("  ✓ Room 2 closed after its last player left");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static int joinedRoom(RawClient client) throws IOException, InterruptedException {
+        NetworkMessage session = client.await(m -> m.type == MessageType.SESSION && m.sessionToken != null, 2000);
+        assert session != null : "Join should open a session";
+        return session.roomId;
+    }
+
+    private static class RawClient {
+        private final Socket socket;
+        private final DataOutputStream out;
+        private final LinkedBlockingQueue<NetworkMessage> inbox = new LinkedBlockingQueue<>();
+
+        private RawClient() throws IOException {
+            socket = new Socket("127.0.0.1", PORT);
+            out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            Thread reader = new Thread(() -> {
+                try {
+                    while (true) {
+                        inbox.add(MessageCodec.readFrame(in));
+                    }
+                } catch (IOException e) {
+                }
+            }, "Room-Test-Reader");
+            reader.setDaemon(true);
+            reader.start();
+            send(NetworkMessage.createHello(MessageCodec.PROTOCOL_VERSION));
+        }
+
+        static RawClient join(String playerId) throws IOException {
+            RawClient client = new RawClient();
+            client.send(NetworkMessage.createPlayerJoin(new PlayerData(playerId, playerId, new Point(100, 100), "c1.png")));
+            return client;
+        }
+
+        synchronized void send(NetworkMessage msg) throws IOException {
+            MessageCodec.writeFrame(out, msg, MessageCodec.PROTOCOL_VERSION);
+            out.flush();
+        }
+
+        NetworkMessage await(Predicate<NetworkMessage> match, long timeoutMillis) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + timeoutMillis;
+            while (System.currentTimeMillis() < deadline) {
+                NetworkMessage msg = inbox.poll(100, TimeUnit.MILLISECONDS);
+                if (msg != null && match.test(msg)) {
+                    return msg;
+                }
+            }
+            return null;
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+            }
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package test;
+
+import core.GameConfig;
+import network.*;
+import network.NetworkMessage.MessageType;
+import java.awt.Point;
+import java.io.*;
+import java.net.Socket;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+public class SessionTest {
+    private static final int PORT = GameConfig.Network.SERVER_PORT + 1;
+    private static final long EXPIRY_WAIT = GameConfig.Network.SESSION_GRACE_PERIOD + GameConfig.Network.CLEANUP_INTERVAL + 5000;
+
+    private GameServerCore server;
+    private RawClient host;
+    private RawClient player;
+    private String token;
+    private int roomId;
+
+    public static void main(String[] args) {
+        System.out.println("=== Session Resume & Expiry Test ===\n");
+        GameConfig.Debug.FILE_LOGGING_ENABLED = false;
+
+        SessionTest test = new SessionTest();
+        int passed = 0;
+        int total = 0;
+
+        try {
+            test.startServer();
+
+            total++; if (test.testJoinOpensSession()) passed++;
+            total++; if (test.testResumeWithToken()) passed++;
+            total++; if (test.testRejectsWrongToken()) passed++;
+            total++; if (test.testSessionExpiry()) passed++;
+            total++; if (test.testSessionMessagesRoundTrip()) passed++;
+        } catch (Exception e) {
+            System.out.println("  ✗ Setup failed: " + e.getMessage());
+            total++;
+        } finally {
+            test.stopServer();
+        }
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed + "/" + total);
+        System.out.println(passed == total ? "✅ ALL TESTS PASSED" : "❌ SOME TESTS FAILED");
+
+        System.exit(passed == total ? 0 : 1);
+    }
+
+    private void startServer() throws IOException {
+        server = new GameServerCore(PORT, new GameServerCore.Listener() {
+            @Override
+            public void onLog(String message) {
+            }
+
+            @Override
+            public void onPlayersChanged() {
+            }
+
+            @Override
+            public void onQueueMetrics(String summary) {
+            }
+        });
+        server.start();
+        host = RawClient.join("host");
+    }
+
+    private void stopServer() {
+        if (host != null) host.close();
+        if (player != null) player.close();
+        if (server != null) server.stop();
+    }
+
+    public boolean testJoinOpensSession() {
+        System.out.println("Test 1: Join Opens A Session");
+        try {
+            player = RawClient.join("p1");
+            NetworkMessage session = player.await(m -> m.type == MessageType.SESSION, 2000);
+            assert session != null && session.sessionToken != null : "Join should return a session token";
+            assert session.roomId > 0 : "Session should name its room";
+            token = session.sessionToken;
+            roomId = session.roomId;
+
+            player.close();
+            Thread.sleep(500);
+            assert server.getPlayerCount() == 2 : "Dropped player should be held, players=" + server.getPlayerCount();
+
+            System.out.println("  ✓ Token issued for room " + roomId + ", slot held after the drop");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testResumeWithToken() {
+        System.out.println("\nTest 2: Resume With Matching Token");
+        try {
+            RawClient client = RawClient.connect();
+            client.send(NetworkMessage.createResume("p1", token, -1, roomId));
+            NetworkMessage session = client.await(m -> m.type == MessageType.SESSION, 2000);
+            assert session != null && token.equals(session.sessionToken) : "Resume should keep the token";
+            assert session.roomId == roomId : "Resume should land in the original room";
+            assert client.await(m -> m.type == MessageType.PLAYER_JOIN && "host".equals(m.playerData.playerId), 2000) != null
+                    : "Resume should replay other players";
+            assert server.getPlayerCount() == 2 : "Resume should not add a player";
+
+            client.close();
+            Thread.sleep(500);
+            System.out.println("  ✓ Slot rebound without a second player");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testRejectsWrongToken() {
+        System.out.println("\nTest 3: Held Slot Needs The Token");
+        try {
+            RawClient forged = RawClient.connect();
+            forged.send(NetworkMessage.createResume("p1", "forged", -1, roomId));
+            NetworkMessage session = forged.await(m -> m.type == MessageType.SESSION, 2000);
+            assert session != null && session.sessionToken == null : "Wrong token should be refused";
+            forged.close();
+
+            RawClient joiner = RawClient.join("p1");
+            NetworkMessage kicked = joiner.await(m -> m.type == MessageType.KICKED, 2000);
+            assert kicked != null : "Plain join for a held id should be refused";
+            assert joiner.awaitClosed(2000) : "Refused join should be disconnected";
+            joiner.close();
+            assert server.getPlayerCount() == 2 : "Held slot should stay with its owner";
+
+            System.out.println("  ✓ Wrong token and plain join both refused");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testSessionExpiry() {
+        System.out.println("\nTest 4: Held Slot Expires After The Grace Period");
+        try {
+            NetworkMessage leave = host.await(m -> m.type == MessageType.PLAYER_LEAVE && "p1".equals(m.playerData.playerId), EXPIRY_WAIT);
+            assert leave != null : "Expired player should be removed";
+            assert server.getPlayerCount() == 1 : "Only the host should remain";
+
+            RawClient late = RawClient.connect();
+            late.send(NetworkMessage.createResume("p1", token, -1, roomId));
+            NetworkMessage session = late.await(m -> m.type == MessageType.SESSION, 2000);
+            assert session != null && session.sessionToken == null : "Expired token should be refused";
+
+            late.send(NetworkMessage.createPlayerJoin(new PlayerData("p1", "p1", new Point(100, 100), "c1.png")));
+            NetworkMessage rejoined = late.await(m -> m.type == MessageType.SESSION && m.sessionToken != null, 2000);
+            assert rejoined != null && !token.equals(rejoined.sessionToken) : "Fallback join should open a new session";
+            assert rejoined.roomId == roomId : "Fallback join should return to the original room";
+            late.close();
+
+            System.out.println("  ✓ Expired slot evicted, old token refused, fallback join gets a fresh session");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testSessionMessagesRoundTrip() {
+        System.out.println("\nTest 5: Session Messages Survive The Codec");
+        try {
+            NetworkMessage resume = roundTrip(NetworkMessage.createResume("p1", "abc", 7, 3));
+            assert resume.type == MessageType.RESUME && "abc".equals(resume.sessionToken) : "Resume should keep its token";
+            assert resume.sequence == 7 && resume.roomId == 3 : "Resume should keep its ack and room";
+
+            NetworkMessage refused = roundTrip(NetworkMessage.createSession("p1", null, -1, 3));
+            assert refused.type == MessageType.SESSION && refused.sessionToken == null : "Refusal should carry no token";
+            assert refused.roomId == 3 : "Session should keep its room";
+
+            NetworkMessage kicked = roundTrip(NetworkMessage.createKicked("p1", "Player id already in use"));
+            assert kicked.type == MessageType.KICKED && "Player id already in use".equals(kicked.reason) : "Kick should keep its reason";
+
+            System.out.println("  ✓ Token, room, ack and kick reason round-trip");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static NetworkMessage roundTrip(NetworkMessage msg) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        MessageCodec.writeFrame(new DataOutputStream(bytes), msg, MessageCodec.PROTOCOL_VERSION);
+        return MessageCodec.readFrame(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    private static class RawClient {
+        private final Socket socket;
+        private final DataOutputStream out;
+        private final LinkedBlockingQueue<NetworkMessage> inbox = new LinkedBlockingQueue<>();
+        private final Thread reader;
+        private long lastSent = System.currentTimeMillis();
+
+        private RawClient() throws IOException {
+            socket = new Socket("127.0.0.1", PORT);
+            out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            reader = new Thread(() -> {
+                try {
+                    while (true) {
+                        inbox.add(MessageCodec.readFrame(in));
+                    }
+                } catch (IOException e) {
+                }
+            }, "Session-Test-Reader");
+            reader.setDaemon(true);
+            reader.start();
+            send(NetworkMessage.createHello(MessageCodec.PROTOCOL_VERSION));
+        }
+
+        static RawClient connect() throws IOException {
+            return new RawClient();
+        }
+
+        static RawClient join(String playerId) throws IOException {
+            RawClient client = new RawClient();
+            client.send(NetworkMessage.createPlayerJoin(new PlayerData(playerId, playerId, new Point(100, 100), "c1.png")));
+            return client;
+        }
+
+        synchronized void send(NetworkMessage msg) throws IOException {
+            MessageCodec.writeFrame(out, msg, MessageCodec.PROTOCOL_VERSION);
+            out.flush();
+            lastSent = System.currentTimeMillis();
+        }
+
+        NetworkMessage await(Predicate<NetworkMessage> match, long timeoutMillis) throws IOException, InterruptedException {
+            long deadline = System.currentTimeMillis() + timeoutMillis;
+            while (System.currentTimeMillis() < deadline) {
+                if (System.currentTimeMillis() - lastSent >= GameConfig.Network.HEARTBEAT_INTERVAL && !socket.isClosed()) {
+                    send(NetworkMessage.createHeartbeat(""));
+                }
+                NetworkMessage msg = inbox.poll(100, TimeUnit.MILLISECONDS);
+                if (msg != null && match.test(msg)) {
+                    return msg;
+                }
+            }
+            return null;
+        }
+
+        boolean awaitClosed(long timeoutMillis) throws InterruptedException {
+            reader.join(timeoutMillis);
+            return !reader.isAlive();
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package test;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import util.SpatialGrid;
+
+public class SpatialGridTest {
+
+    public static void main(String[] args) {
+        System.out.println("=== Spatial Grid Lookup Test ===\n");
+
+        SpatialGridTest test = new SpatialGridTest();
+        int passed = 0;
+        int total = 0;
+
+        total++; if (test.testNearestPoint()) passed++;
+        total++; if (test.testNearestOutsideOccupiedCells()) passed++;
+        total++; if (test.testRectangles()) passed++;
+        total++; if (test.testMatchesLinearScan()) passed++;
+        total++; if (test.testEmptyAndInvalid()) passed++;
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed + "/" + total);
+        System.out.println(passed == total ? "✅ ALL TESTS PASSED" : "❌ SOME TESTS FAILED");
+
+        System.exit(passed == total ? 0 : 1);
+    }
+
+    public boolean testNearestPoint() {
+        System.out.println("Test 1: Finds The Nearest Point");
+        try {
+            SpatialGrid<String> grid = new SpatialGrid<>(50);
+            grid.insert("a", new Point(10, 10));
+            grid.insert("b", new Point(140, 10));
+            grid.insert("c", new Point(60, 200));
+            grid.insert("d", new Point(110, 10));
+
+            assert "a".equals(grid.findNearest(new Point(0, 0))) : "Same cell should win";
+            assert "d".equals(grid.findNearest(new Point(95, 30))) : "Neighbouring cell should be searched";
+            assert "c".equals(grid.findNearest(new Point(60, 150))) : "Distant cell should be reached";
+            assert "a".equals(grid.findNearest(new Point(60, 10))) : "Ties should go to the first inserted";
+            assert grid.size() == 4 : "Size should count inserts";
+
+            System.out.println("  ✓ Nearest found across cells, ties broken by insertion order");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testNearestOutsideOccupiedCells() {
+        System.out.println("\nTest 2: Query Far Outside The Occupied Cells");
+        try {
+            SpatialGrid<String> grid = new SpatialGrid<>(50);
+            grid.insert("near-origin", new Point(-5, -5));
+            grid.insert("far", new Point(400, 400));
+
+            assert "near-origin".equals(grid.findNearest(new Point(-1000, -800))) : "Negative coordinates should work";
+            assert "far".equals(grid.findNearest(new Point(5000, 300))) : "Query beyond the grid should still find the nearest";
+
+            System.out.println("  ✓ Queries outside the occupied area still return the nearest item");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testRectangles() {
+        System.out.println("\nTest 3: Rectangles Span Cells");
+        try {
+            SpatialGrid<String> grid = new SpatialGrid<>(50);
+            grid.insert("wide", new Rectangle(0, 0, 180, 20));
+            grid.insert("box", new Rectangle(60, 100, 30, 30));
+
+            assert grid.query(new Point(170, 10)).equals(List.of("wide")) : "Rectangle should be found in every cell it covers";
+            assert grid.query(new Point(70, 110)).equals(List.of("box")) : "Point inside box should hit it";
+            assert grid.query(new Point(70, 60)).isEmpty() : "Gap between rectangles should be empty";
+            assert "wide".equals(grid.findNearest(new Point(170, 40))) : "Distance should be to the rectangle edge";
+            assert "box".equals(grid.findNearest(new Point(75, 80))) : "Closer rectangle edge should win";
+
+            System.out.println("  ✓ Rectangles are indexed in each covered cell and measured to their edges");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testMatchesLinearScan() {
+        System.out.println("\nTest 4: Matches A Linear Scan");
+        try {
+            Random random = new Random(42);
+            List<Point> points = new ArrayList<>();
+            SpatialGrid<Integer> grid = new SpatialGrid<>(64);
+            for (int i = 0; i < 300; i++) {
+                Point point = new Point(random.nextInt(2000) - 500, random.nextInt(1500) - 500);
+                points.add(point);
+                grid.insert(i, point);
+            }
+
+            for (int q = 0; q < 1000; q++) {
+                Point target = new Point(random.nextInt(3000) - 1000, random.nextInt(2500) - 1000);
+                int expected = 0;
+                for (int i = 1; i < points.size(); i++) {
+                    if (points.get(i).distanceSq(target) < points.get(expected).distanceSq(target)) {
+                        expected = i;
+                    }
+                }
+                int found = grid.findNearest(target);
+                assert found == expected : "Query " + target + " expected " + expected + ", got " + found;
+            }
+
+            System.out.println("  ✓ 1000 random queries agree with a brute-force search");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testEmptyAndInvalid() {
+        System.out.println("\nTest 5: Empty Grid And Invalid Cell Size");
+        try {
+            SpatialGrid<String> grid = new SpatialGrid<>(50);
+            assert grid.findNearest(new Point(0, 0)) == null : "Empty grid has no nearest item";
+            assert grid.query(new Point(0, 0)).isEmpty() : "Empty grid query should be empty";
+            try {
+                new SpatialGrid<String>(0);
+                assert false : "Zero cell size should be rejected";
+            } catch (IllegalArgumentException expected) {
+            }
+
+            System.out.println("  ✓ Empty grid returns nothing, zero cell size throws");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+}
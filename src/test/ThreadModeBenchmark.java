@@ -0,0 +1,194 @@
+package test;
+
+import java.awt.Point;
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import network.*;
+import util.ThreadFactories;
+
+public class ThreadModeBenchmark {
+    private static final String HOST = "localhost";
+    private static final int BASE_PORT = 12400;
+
+    private final int clients;
+    private final long durationMillis;
+
+    public ThreadModeBenchmark(int clients, long durationMillis) {
+        this.clients = clients;
+        this.durationMillis = durationMillis;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long duration = args.length > 1 ? Long.parseLong(args[1]) : 5000;
+
+        System.out.println("=== Thread Mode Benchmark ===");
+        System.out.println("Clients: " + clients + ", duration: " + duration + "ms\n");
+
+        ThreadModeBenchmark warmup = new ThreadModeBenchmark(Math.min(clients, 50), 1000);
+        ThreadModeBenchmark benchmark = new ThreadModeBenchmark(clients, duration);
+        int port = BASE_PORT;
+        for (ThreadFactories.Mode mode : ThreadFactories.Mode.values()) {
+            warmup.run(mode, port++, false);
+        }
+        int passed = 0;
+        int total = 0;
+        for (ThreadFactories.Mode mode : ThreadFactories.Mode.values()) {
+            total++; if (benchmark.run(mode, port++, true)) passed++;
+            System.gc();
+            Thread.sleep(1000);
+        }
+
+        System.out.println("Passed: " + passed + "/" + total);
+        System.out.println(passed == total ? "✅ ALL MODES CONNECTED EVERY CLIENT" : "❌ SOME CLIENTS FAILED TO CONNECT");
+        System.exit(passed == total ? 0 : 1);
+    }
+
+    public boolean run(ThreadFactories.Mode mode, int port, boolean report) throws Exception {
+
+        GameServerCore server = new GameServerCore(port, new GameServerCore.Listener() {
+            @Override
+            public void onLog(String message) {
+            }
+
+            @Override
+            public void onPlayersChanged() {
+            }
+
+            @Override
+            public void onQueueMetrics(String summary) {
+            }
+        });
+        server.start();
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        Runtime runtime = Runtime.getRuntime();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+
+        AtomicInteger connected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicReference<String> firstFailure = new AtomicReference<>();
+        AtomicLong framesReceived = new AtomicLong();
+        AtomicLong handshakeNanos = new AtomicLong();
+        CountDownLatch allConnected = new CountDownLatch(clients);
+        CountDownLatch finished = new CountDownLatch(clients);
+        long deadline = System.currentTimeMillis() + durationMillis;
+
+        long start = System.nanoTime();
+        ExecutorService executor = ThreadFactories.newPerTaskExecutor(mode, "Bench-Client-");
+        for (int i = 0; i < clients; i++) {
+            String playerId = "bench_" + mode.name().toLowerCase() + "_" + i;
+            executor.execute(() -> {
+                try {
+                    runClient(port, playerId, deadline, allConnected, connected, framesReceived, handshakeNanos);
+                } catch (IOException e) {
+                    failed.incrementAndGet();
+                    firstFailure.compareAndSet(null, e.getMessage());
+                    allConnected.countDown();
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+
+        allConnected.await(30, TimeUnit.SECONDS);
+        long connectMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long heapConnected = runtime.totalMemory() - runtime.freeMemory();
+        int peakThreads = threads.getPeakThreadCount();
+        int joined = server.getPlayerCount();
+        while (joined < clients && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            joined = server.getPlayerCount();
+        }
+
+        finished.await(durationMillis + 30000, TimeUnit.MILLISECONDS);
+        executor.shutdown();
+        server.stop();
+
+        int ok = connected.get();
+        boolean allOk = ok == clients && failed.get() == 0 && joined == clients;
+        if (!report) return allOk;
+
+        System.out.println("Mode: " + mode);
+        System.out.println("  Connected:       " + ok + "/" + clients + " (failed " + failed.get() + ") in " + connectMillis + "ms");
+        if (firstFailure.get() != null) {
+            System.out.println("  First failure:   " + firstFailure.get());
+        }
+        System.out.println("  Avg handshake:   " + (ok > 0 ? handshakeNanos.get() / ok / 1000 : 0) + "us");
+        System.out.println("  Frames received: " + framesReceived.get());
+        System.out.println("  Peak OS threads: " + peakThreads);
+        System.out.println("  Heap growth:     " + Math.max(0, heapConnected - heapBefore) / (1024 * 1024) + "MB");
+        System.out.println("  " + (allOk ? "✓" : "✗") + " " + mode + " joined " + joined + "/" + clients + " client(s)\n");
+        return allOk;
+    }
+
+    private void runClient(int port, String playerId, long deadline, CountDownLatch allConnected,
+            AtomicInteger connected, AtomicLong framesReceived, AtomicLong handshakeNanos) throws IOException {
+        try (Socket socket = new Socket(HOST, port)) {
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(100);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+            long handshakeStart = System.nanoTime();
+            MessageCodec.writeFrame(out, NetworkMessage.createHello(MessageCodec.PROTOCOL_VERSION), MessageCodec.PROTOCOL_VERSION);
+            out.flush();
+            NetworkMessage hello = readUntil(in, NetworkMessage.MessageType.HELLO, deadline);
+            if (hello == null) {
+                throw new IOException("No HELLO from server");
+            }
+            handshakeNanos.addAndGet(System.nanoTime() - handshakeStart);
+            int version = MessageCodec.negotiateVersion(hello.protocolVersion);
+
+            PlayerData player = new PlayerData(playerId, playerId, new Point(0, 0), "assets/players/Male-01.png");
+            MessageCodec.writeFrame(out, NetworkMessage.createPlayerJoin(player), version);
+            out.flush();
+            connected.incrementAndGet();
+            allConnected.countDown();
+
+            int step = 0;
+            long nextMove = System.currentTimeMillis();
+            while (System.currentTimeMillis() < deadline) {
+                if (System.currentTimeMillis() >= nextMove) {
+                    MessageCodec.writeFrame(out, NetworkMessage.createPlayerMove(playerId, new Point(step++, step)), version);
+                    out.flush();
+                    nextMove += 100;
+                }
+                try {
+                    NetworkMessage msg = MessageCodec.readFrame(in);
+                    framesReceived.incrementAndGet();
+                    if (msg.type == NetworkMessage.MessageType.STATE_SNAPSHOT) {
+                        MessageCodec.writeFrame(out, NetworkMessage.createSnapshotAck(msg.sequence), version);
+                        out.flush();
+                    }
+                } catch (SocketTimeoutException e) {
+                    continue;
+                }
+            }
+        }
+    }
+
+    private NetworkMessage readUntil(DataInputStream in, NetworkMessage.MessageType type, long deadline) throws IOException {
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                NetworkMessage msg = MessageCodec.readFrame(in);
+                if (msg.type == type) {
+                    return msg;
+                }
+            } catch (SocketTimeoutException e) {
+                continue;
+            }
+        }
+        return null;
+    }
+}
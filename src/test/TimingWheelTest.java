@@ -0,0 +1,108 @@
+package test;
+
+import java.util.List;
+import util.TimingWheel;
+
+public class TimingWheelTest {
+
+    public static void main(String[] args) {
+        System.out.println("=== Timing Wheel Expiry Test ===\n");
+
+        TimingWheelTest test = new TimingWheelTest();
+        int passed = 0;
+        int total = 0;
+
+        total++; if (test.testExpiresAcrossRevolutions()) passed++;
+        total++; if (test.testTouchMovesDeadline()) passed++;
+        total++; if (test.testCancel()) passed++;
+        total++; if (test.testRejectsInvalidWheel()) passed++;
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed + "/" + total);
+        System.out.println(passed == total ? "✅ ALL TESTS PASSED" : "❌ SOME TESTS FAILED");
+
+        System.exit(passed == total ? 0 : 1);
+    }
+
+    public boolean testExpiresAcrossRevolutions() {
+        System.out.println("Test 1: Expires On Time Across Revolutions");
+        try {
+            TimingWheel<String> wheel = new TimingWheel<>(100, 8, 0);
+            wheel.touch("a", 250);
+            wheel.touch("b", 1500);
+            assert wheel.advance(200).isEmpty() : "Nothing due yet";
+            assert wheel.advance(300).equals(List.of("a")) : "a should expire after its deadline";
+            assert wheel.advance(1000).isEmpty() : "b is more than one revolution out and must not fire early";
+            assert wheel.advance(1600).equals(List.of("b")) : "b should expire on a later revolution";
+            assert wheel.size() == 0 : "Expired entries should be removed";
+
+            System.out.println("  ✓ Entries fire once their deadline passes, even beyond one revolution");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testTouchMovesDeadline() {
+        System.out.println("\nTest 2: Touch Moves The Deadline");
+        try {
+            TimingWheel<String> wheel = new TimingWheel<>(100, 8, 0);
+            wheel.touch("c", 200);
+            wheel.touch("c", 700);
+            assert wheel.advance(300).isEmpty() : "Extended entry should not fire at its old deadline";
+            assert wheel.advance(800).equals(List.of("c")) : "Extended entry should expire once";
+
+            wheel.touch("e", 1900);
+            wheel.touch("e", 1200);
+            assert wheel.advance(1300).equals(List.of("e")) : "Shortened deadline should be honoured";
+            assert wheel.advance(2000).isEmpty() : "Entry should not expire twice";
+
+            System.out.println("  ✓ Later and earlier deadlines both take effect, each entry fires once");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testCancel() {
+        System.out.println("\nTest 3: Cancelled Entries Never Expire");
+        try {
+            TimingWheel<String> wheel = new TimingWheel<>(100, 8, 0);
+            wheel.touch("d", 300);
+            wheel.cancel("d");
+            wheel.cancel("missing");
+            assert wheel.size() == 0 : "Cancel should remove the entry";
+            assert wheel.advance(1000).isEmpty() : "Cancelled entry should not expire";
+
+            System.out.println("  ✓ Cancel removes the entry and ignores unknown keys");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public boolean testRejectsInvalidWheel() {
+        System.out.println("\nTest 4: Rejects Invalid Wheel Shape");
+        try {
+            try {
+                new TimingWheel<String>(0, 8, 0);
+                assert false : "Zero tick should be rejected";
+            } catch (IllegalArgumentException expected) {
+            }
+            try {
+                new TimingWheel<String>(100, 0, 0);
+                assert false : "Zero slots should be rejected";
+            } catch (IllegalArgumentException expected) {
+            }
+
+            System.out.println("  ✓ Zero tick or slot count throws IllegalArgumentException");
+            return true;
+        } catch (Exception | AssertionError e) {
+            System.out.println("  ✗ Failed: " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -3,9 +3,8 @@ package ui;
 import core.PlayerState;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
-import javax.imageio.ImageIO;
+import util.AssetCache;
 import util.FontManager;
 
 public class CharacterHUD {
@@ -42,10 +41,10 @@ public class CharacterHUD {
     
     private void loadIcons() {
         try {
-            educationIcon = ImageIO.read(new File("assets/ui/hud/Icon Education #125.png"));
-            happinessIcon = ImageIO.read(new File("assets/ui/hud/Icon Happiness #6686.png"));
-            healthIcon = ImageIO.read(new File("assets/ui/hud/Icon Health.png"));
-            moneyIcon = ImageIO.read(new File("assets/ui/hud/Icon Money #6805.png"));
+            educationIcon = AssetCache.getScaled("assets/ui/hud/Icon Education #125.png", iconRadius * 2, iconRadius * 2);
+            happinessIcon = AssetCache.getScaled("assets/ui/hud/Icon Happiness #6686.png", iconRadius * 2, iconRadius * 2);
+            healthIcon = AssetCache.getScaled("assets/ui/hud/Icon Health.png", iconRadius * 2, iconRadius * 2);
+            moneyIcon = AssetCache.getScaled("assets/ui/hud/Icon Money #6805.png", iconRadius * 2, iconRadius * 2);
             loadTokenIcon();
         } catch (IOException e) {
             System.out.println("Could not load HUD icons: " + e.getMessage());
@@ -64,8 +63,8 @@ public class CharacterHUD {
         try {
             String tokenFrontPath = "assets/ui/hud/Token P" + playerNumber + " Front.png";
             String tokenBackPath = "assets/ui/hud/P" + playerNumber + " Back.png";
-            tokenIcon = ImageIO.read(new File(tokenFrontPath));
-            tokenBackIcon = ImageIO.read(new File(tokenBackPath));
+            tokenIcon = AssetCache.load(tokenFrontPath);
+            tokenBackIcon = AssetCache.load(tokenBackPath);
             System.out.println("โหลด Token สำหรับตัวเรา: P" + playerNumber);
         } catch (IOException e) {
             System.out.println("ไม่สามารถโหลด Token สำหรับตัวเรา (P" + playerNumber + "): " + e.getMessage());
@@ -78,7 +77,7 @@ public class CharacterHUD {
         try {
             String characterImagePath = playerState.getCharacterImagePath();
             if (characterImagePath != null && !characterImagePath.isEmpty()) {
-                characterIcon = ImageIO.read(new File(characterImagePath));
+                characterIcon = AssetCache.getScaled(characterImagePath, mainCircleRadius * 2, mainCircleRadius * 2);
                 System.out.println("โหลดรูปตัวละครสำเร็จ: " + characterImagePath);
             } else {
                
@@ -213,6 +212,16 @@ public class CharacterHUD {
         this.isCurrentTurn = isCurrentTurn;
     }
     
+    public Rectangle getBounds() {
+        int extent = mainCircleRadius + iconRadius * 2 + 20;
+        return new Rectangle(x - extent, y - extent, extent * 2 + iconRadius * 2 + 60, extent * 2 + 20);
+    }
+    
+    public int getRenderState() {
+        return java.util.Objects.hash(x, y, playerNumber, isCurrentTurn, characterIcon != null,
+                playerState.getCharacterImagePath(), playerState.getMoney(), playerState.getHealth(), playerState.getEnergy());
+    }
+    
     public void setPosition(int x, int y) {
         this.x = x;
         this.y = y;
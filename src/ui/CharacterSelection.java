@@ -8,6 +8,8 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import javax.swing.*;
+import util.AssetCache;
+import util.AssetPreloader;
 import util.FontManager;
 import util.VersionInfo;
 
@@ -45,6 +47,19 @@ public class CharacterSelection {
                         int x = (getWidth() - fm.stringWidth(text)) / 2;
                         int y = getHeight() / 2;
                         g2d.drawString(text, x, y);
+
+                int barWidth = 400;
+                int barX = (getWidth() - barWidth) / 2;
+                int barY = y + 30;
+                g2d.setColor(Color.DARK_GRAY);
+                g2d.fillRect(barX, barY, barWidth, 8);
+                g2d.setColor(Color.WHITE);
+                g2d.fillRect(barX, barY, (int) (barWidth * AssetPreloader.getProgress()), 8);
+
+                String progress = AssetPreloader.getLoaded() + " / " + AssetPreloader.getTotal();
+                g2d.setFont(FontManager.getFontForText(progress, 14));
+                fm = g2d.getFontMetrics();
+                g2d.drawString(progress, (getWidth() - fm.stringWidth(progress)) / 2, barY + 30);
             }
         };
         loadingWindow.add(loadingPanel);
@@ -90,8 +105,7 @@ public class CharacterSelection {
 
         for (String characterFile : characterFiles) {
             try {
-                ImageIcon originalIcon = new ImageIcon(characterFile);
-                Image scaledImage = originalIcon.getImage().getScaledInstance(120, 180, Image.SCALE_SMOOTH);
+                Image scaledImage = AssetCache.getScaled(characterFile, 120, 180);
                 JLabel characterLabel = new JLabel(new ImageIcon(scaledImage), JLabel.CENTER);
 
                 characterLabel.setCursor(new Cursor(Cursor.HAND_CURSOR));
@@ -108,6 +122,10 @@ public class CharacterSelection {
 
                             @Override
                             public void actionPerformed(ActionEvent e) {
+                                if (!AssetPreloader.isDone()) {
+                                    loadingPanel.repaint();
+                                    return;
+                                }
                                 opacity -= 0.05f;
                                 loadingWindow.setOpacity(Math.max(0.0f, opacity));
 
@@ -2,10 +2,9 @@ package ui;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
-import javax.imageio.ImageIO;
 import javax.swing.*;
+import util.AssetCache;
 
 public class HitEffect extends JPanel {
     private static final long serialVersionUID = 1L;
@@ -32,7 +31,7 @@ public class HitEffect extends JPanel {
         lastClickTime = currentTime;
         
         try {
-            iconImage = ImageIO.read(new File("assets/ui/emote/Icon Happiness #6686.png"));
+            iconImage = AssetCache.load("assets/ui/emote/Icon Happiness #6686.png");
         } catch (IOException e) {
         }
         
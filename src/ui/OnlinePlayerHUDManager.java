@@ -115,6 +115,14 @@ public class OnlinePlayerHUDManager {
         }
     }
     
+    public void trackDamage(util.DamageTracker damage) {
+        for (OnlinePlayerHUD hud : onlineHUDs.values()) {
+            if (hud.hasCharacterIcon()) {
+                damage.track(hud, hud.getBounds(), hud.getRenderState());
+            }
+        }
+    }
+    
     public void setPlayerNumber(String playerId, int playerNumber) {
         OnlinePlayerHUD hud = onlineHUDs.get(playerId);
         if (hud != null) {
@@ -3,12 +3,11 @@ package ui;
 import core.GameConfig;
 import core.Lang;
 import java.awt.*;
-import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
-import javax.imageio.ImageIO;
 import javax.swing.*;
+import util.AssetCache;
 import util.FontManager;
 import util.SoundPlayer;
 
@@ -64,6 +63,7 @@ class CustomPanel extends JPanel {
 
 public class WindowManager {
     private final Map<String, JFrame> openWindows = new HashMap<>();
+    private final SoundPlayer soundPlayer = new SoundPlayer();
 
     public void showWindow(String windowType, String title) {
         closeAllWindows();
@@ -122,8 +122,8 @@ public class WindowManager {
                 g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
 
                 try {
-                    Image apartmentImage = ImageIO.read(new File("assets/maps/home/Crappy Apartment Background.png"));
-                    g2d.drawImage(apartmentImage, 0, 0, getWidth(), getHeight(), null);
+                    Image apartmentImage = AssetCache.getScaled("assets/maps/home/Crappy Apartment Background.png", getWidth(), getHeight());
+                    g2d.drawImage(apartmentImage, 0, 0, null);
                 } catch (IOException e) {
                     g2d.setColor(Color.BLACK);
                     g2d.fillRect(0, 0, getWidth(), getHeight());
@@ -169,11 +169,7 @@ public class WindowManager {
 
                 if (x >= restX && x <= restX + restWidth && y >= restY && y <= restY + restHeight) {
                     SwingUtilities.invokeLater(() -> {
-                        try {
-                            SoundPlayer soundPlayer = new SoundPlayer();
-                            soundPlayer.play(Lang.BUBBLE_POP_SOUND);
-                        } catch (Exception ex) {
-                        }
+                        soundPlayer.play(Lang.BUBBLE_POP_SOUND);
 
                         int offsetX = (int) (Math.random() * 60) - 30;
                         int offsetY = (int) (Math.random() * 60) - 30;
@@ -227,7 +223,7 @@ public class WindowManager {
         });
 
         try {
-            Image cursorImage = ImageIO.read(new File(Lang.CURSOR_IMAGE));
+            Image cursorImage = AssetCache.load(Lang.CURSOR_IMAGE);
             Cursor customCursor = Toolkit.getDefaultToolkit().createCustomCursor(cursorImage, new Point(0, 0), "hand");
             frame.setCursor(customCursor);
         } catch (IOException e) {
@@ -299,7 +295,7 @@ public class WindowManager {
         });
 
         try {
-            Image cursorImage = ImageIO.read(new File(Lang.CURSOR_IMAGE));
+            Image cursorImage = AssetCache.load(Lang.CURSOR_IMAGE);
             Cursor customCursor = Toolkit.getDefaultToolkit().createCustomCursor(cursorImage, new Point(0, 0), "hand");
             frame.setCursor(customCursor);
         } catch (IOException e) {
@@ -351,7 +347,7 @@ public class WindowManager {
         panel.add(centerPanel, BorderLayout.CENTER);
 
         try {
-            Image cursorImage = ImageIO.read(new File(Lang.CURSOR_IMAGE));
+            Image cursorImage = AssetCache.load(Lang.CURSOR_IMAGE);
             Cursor customCursor = Toolkit.getDefaultToolkit().createCustomCursor(cursorImage, new Point(0, 0), "hand");
             frame.setCursor(customCursor);
         } catch (IOException e) {
@@ -399,7 +395,7 @@ public class WindowManager {
         panel.add(centerPanel, BorderLayout.CENTER);
 
         try {
-            Image cursorImage = ImageIO.read(new File(Lang.CURSOR_IMAGE));
+            Image cursorImage = AssetCache.load(Lang.CURSOR_IMAGE);
             Cursor customCursor = Toolkit.getDefaultToolkit().createCustomCursor(cursorImage, new Point(0, 0), "hand");
             frame.setCursor(customCursor);
         } catch (IOException e) {
@@ -443,7 +439,7 @@ public class WindowManager {
         panel.add(centerPanel, BorderLayout.CENTER);
 
         try {
-            Image cursorImage = ImageIO.read(new File(Lang.CURSOR_IMAGE));
+            Image cursorImage = AssetCache.load(Lang.CURSOR_IMAGE);
             Cursor customCursor = Toolkit.getDefaultToolkit().createCustomCursor(cursorImage, new Point(0, 0), "hand");
             frame.setCursor(customCursor);
         } catch (IOException e) {
@@ -475,7 +471,7 @@ public class WindowManager {
         panel.add(closeButton, BorderLayout.SOUTH);
 
         try {
-            Image cursorImage = ImageIO.read(new File(Lang.CURSOR_IMAGE));
+            Image cursorImage = AssetCache.load(Lang.CURSOR_IMAGE);
             Cursor customCursor = Toolkit.getDefaultToolkit().createCustomCursor(cursorImage, new Point(0, 0), "hand");
             frame.setCursor(customCursor);
         } catch (IOException e) {
@@ -546,7 +542,7 @@ public class WindowManager {
         });
 
         try {
-            Image cursorImage = ImageIO.read(new File(Lang.CURSOR_IMAGE));
+            Image cursorImage = AssetCache.load(Lang.CURSOR_IMAGE);
             Cursor customCursor = Toolkit.getDefaultToolkit().createCustomCursor(cursorImage, new Point(0, 0), "hand");
             frame.setCursor(customCursor);
         } catch (IOException e) {
@@ -617,7 +613,7 @@ public class WindowManager {
         });
 
         try {
-            Image cursorImage = ImageIO.read(new File(Lang.CURSOR_IMAGE));
+            Image cursorImage = AssetCache.load(Lang.CURSOR_IMAGE);
             Cursor customCursor = Toolkit.getDefaultToolkit().createCustomCursor(cursorImage, new Point(0, 0), "hand");
             frame.setCursor(customCursor);
         } catch (IOException e) {
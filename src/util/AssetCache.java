@@ -0,0 +1,212 @@
+package util;
+
+import core.Debug;
+import core.GameConfig;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import javax.imageio.ImageIO;
+
+public class AssetCache {
+    private static final Map<String, BufferedImage> images = new LinkedHashMap<>(64, 0.75f, true);
+    private static final Map<String, CompletableFuture<BufferedImage>> loading = new HashMap<>();
+    private static final Set<String> missing = new HashSet<>();
+    private static long cachedBytes = 0;
+    private static long hits = 0;
+    private static long misses = 0;
+    private static long evictions = 0;
+
+    public static BufferedImage load(String path) throws IOException {
+        String key = normalize(path);
+        return lookup(key, key, 0, 0);
+    }
+
+    public static BufferedImage getScaled(String path, int width, int height) throws IOException {
+        if (width <= 0 || height <= 0) {
+            return load(path);
+        }
+        String normalized = normalize(path);
+        return lookup(normalized + "@" + width + "x" + height, normalized, width, height);
+    }
+
+    public static BufferedImage get(String path) {
+        try {
+            return load(path);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public static synchronized boolean contains(String path) {
+        return images.containsKey(normalize(path));
+    }
+
+    public static synchronized String getStats() {
+        return "Assets: " + images.size() + " image(s), " + cachedBytes / 1024 + "KB / "
+                + GameConfig.Display.ASSET_CACHE_MAX_BYTES / 1024 + "KB, hits " + hits + ", misses " + misses
+                + ", evictions " + evictions;
+    }
+
+    public static synchronized void clear() {
+        images.clear();
+        missing.clear();
+        cachedBytes = 0;
+    }
+
+    private static BufferedImage lookup(String key, String path, int width, int height) throws IOException {
+        CompletableFuture<BufferedImage> pending;
+        synchronized (AssetCache.class) {
+            BufferedImage cached = images.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            if (missing.contains(path)) {
+                hits++;
+                throw new IOException("Image not found: " + path);
+            }
+            pending = loading.get(key);
+            if (pending == null) {
+                misses++;
+                loading.put(key, new CompletableFuture<>());
+            } else {
+                hits++;
+            }
+        }
+
+        if (pending != null) {
+            try {
+                return pending.join();
+            } catch (CompletionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+
+        BufferedImage image = null;
+        Throwable failure = null;
+        try {
+            image = width > 0 ? scale(load(path), width, height) : decode(path);
+        } catch (Throwable e) {
+            failure = e;
+        }
+
+        synchronized (AssetCache.class) {
+            CompletableFuture<BufferedImage> future = loading.remove(key);
+            if (image != null) {
+                images.put(key, image);
+                cachedBytes += sizeOf(image);
+                evict();
+                future.complete(image);
+            } else {
+                future.completeExceptionally(failure);
+            }
+        }
+        if (failure != null) {
+            throw rethrow(failure);
+        }
+        return image;
+    }
+
+    private static IOException rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return failure instanceof IOException ? (IOException) failure : new IOException(failure);
+    }
+
+    private static BufferedImage decode(String path) throws IOException {
+        BufferedImage source;
+        try {
+            source = ImageIO.read(new File(path));
+        } catch (IOException e) {
+            source = null;
+        }
+        if (source == null) {
+            synchronized (AssetCache.class) {
+                missing.add(path);
+            }
+            Debug.warning("Image not found: " + path);
+            throw new IOException("Image not found: " + path);
+        }
+        return toCompatible(source);
+    }
+
+    private static String normalize(String path) {
+        return Paths.get(path).normalize().toString();
+    }
+
+    private static void evict() {
+        Iterator<BufferedImage> it = images.values().iterator();
+        while (cachedBytes > GameConfig.Display.ASSET_CACHE_MAX_BYTES && images.size() > 1 && it.hasNext()) {
+            cachedBytes -= sizeOf(it.next());
+            it.remove();
+            evictions++;
+        }
+    }
+
+    private static long sizeOf(BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight() * 4;
+    }
+
+    private static BufferedImage toCompatible(BufferedImage source) {
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        if (gc == null) {
+            return source;
+        }
+        if (source.getColorModel().equals(gc.getColorModel(source.getColorModel().getTransparency()))) {
+            return source;
+        }
+        BufferedImage image = gc.createCompatibleImage(source.getWidth(), source.getHeight(),
+                source.getColorModel().getTransparency());
+        Graphics2D g = image.createGraphics();
+        try {
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        if (source.getWidth() == width && source.getHeight() == height) {
+            return source;
+        }
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        int transparency = source.getColorModel().getTransparency();
+        BufferedImage image = gc != null
+                ? gc.createCompatibleImage(width, height, transparency)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    private static GraphicsConfiguration getGraphicsConfiguration() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return null;
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+    }
+}
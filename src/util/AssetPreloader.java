@@ -0,0 +1,111 @@
+package util;
+
+import core.Debug;
+import core.GameConfig;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+public class AssetPreloader {
+    private static final AtomicInteger loaded = new AtomicInteger();
+    private static volatile int total = 0;
+    private static volatile CompletableFuture<Void> done;
+
+    public static synchronized CompletableFuture<Void> start() {
+        if (done != null) {
+            return done;
+        }
+
+        long startTime = System.nanoTime();
+        List<Runnable> tasks = collectTasks();
+        total = tasks.size();
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks.size()];
+        for (int i = 0; i < tasks.size(); i++) {
+            Runnable task = tasks.get(i);
+            futures[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    task.run();
+                } finally {
+                    loaded.incrementAndGet();
+                }
+            }, pool);
+        }
+
+        done = CompletableFuture.allOf(futures).whenComplete((result, error) -> {
+            pool.shutdown();
+            Debug.log("Preloaded " + total + " asset(s) in "
+                    + (System.nanoTime() - startTime) / 1_000_000 + "ms - " + AssetCache.getStats());
+        });
+        return done;
+    }
+
+    public static boolean isDone() {
+        CompletableFuture<Void> future = done;
+        return future != null && future.isDone();
+    }
+
+    public static int getLoaded() {
+        return loaded.get();
+    }
+
+    public static int getTotal() {
+        return total;
+    }
+
+    public static double getProgress() {
+        int count = total;
+        return count == 0 ? (isDone() ? 1.0 : 0.0) : Math.min(1.0, (double) loaded.get() / count);
+    }
+
+    private static List<Runnable> collectTasks() {
+        List<Runnable> tasks = new ArrayList<>();
+        tasks.add(FontManager::loadThaiFont);
+        tasks.add(FontManager::loadEnglishFont);
+
+        Path root = Paths.get(GameConfig.Display.ASSET_ROOT);
+        if (!Files.isDirectory(root)) {
+            return tasks;
+        }
+
+        try (Stream<Path> files = Files.walk(root)) {
+            files.filter(Files::isRegularFile)
+                    .map(Path::toString)
+                    .sorted()
+                    .forEach(path -> {
+                        if (isImage(path)) {
+                            tasks.add(() -> preloadImage(path));
+                        } else if (path.toLowerCase().endsWith(".wav")) {
+                            tasks.add(() -> SoundPlayer.preload(path));
+                        }
+                    });
+        } catch (IOException e) {
+            Debug.error("Could not list assets: " + e.getMessage());
+        }
+        return tasks;
+    }
+
+    private static void preloadImage(String path) {
+        try {
+            AssetCache.load(path);
+            if (path.startsWith(Paths.get(GameConfig.Display.ASSET_ROOT, "players").toString())) {
+                AssetCache.getScaled(path, GameConfig.Character.WIDTH, GameConfig.Character.HEIGHT);
+            }
+        } catch (IOException e) {
+            Debug.warning("Preload failed: " + e.getMessage());
+        }
+    }
+
+    private static boolean isImage(String path) {
+        String name = path.toLowerCase();
+        return name.endsWith(".png") || name.endsWith(".jpg") || name.endsWith(".jpeg");
+    }
+}
@@ -0,0 +1,105 @@
+package util;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+public class DamageTracker {
+    private static final double FULL_REPAINT_RATIO = 0.6;
+
+    private final List<Rectangle> regions = new ArrayList<>();
+    private final Map<Object, Tracked> tracked = new HashMap<>();
+    private Rectangle area = new Rectangle();
+    private boolean full = false;
+    private long frame = 0;
+
+    private static class Tracked {
+        Rectangle bounds;
+        int state;
+        long seen;
+    }
+
+    public void setArea(int width, int height) {
+        if (area.width != width || area.height != height) {
+            area = new Rectangle(0, 0, width, height);
+            full = true;
+        }
+    }
+
+    public void add(Rectangle region) {
+        if (full || region == null || region.isEmpty()) return;
+        Rectangle clipped = region.intersection(area);
+        if (!clipped.isEmpty()) {
+            regions.add(clipped);
+        }
+    }
+
+    public void addAll() {
+        full = true;
+    }
+
+    public void track(Object key, Rectangle bounds, int state) {
+        Tracked entry = tracked.get(key);
+        if (entry == null) {
+            entry = new Tracked();
+            tracked.put(key, entry);
+            add(bounds);
+        } else if (entry.state != state || !entry.bounds.equals(bounds)) {
+            add(entry.bounds);
+            add(bounds);
+        }
+        entry.bounds = new Rectangle(bounds);
+        entry.state = state;
+        entry.seen = frame;
+    }
+
+    public List<Rectangle> drain() {
+        for (Iterator<Tracked> it = tracked.values().iterator(); it.hasNext();) {
+            Tracked entry = it.next();
+            if (entry.seen != frame) {
+                add(entry.bounds);
+                it.remove();
+            }
+        }
+        frame++;
+
+        List<Rectangle> result = full ? List.of(new Rectangle(area)) : merge();
+        regions.clear();
+        full = false;
+        return result;
+    }
+
+    private List<Rectangle> merge() {
+        if (regions.isEmpty()) return List.of();
+
+        List<Rectangle> merged = new ArrayList<>();
+        for (Rectangle region : regions) {
+            Rectangle current = new Rectangle(region);
+            boolean grew = true;
+            while (grew) {
+                grew = false;
+                for (Iterator<Rectangle> it = merged.iterator(); it.hasNext();) {
+                    Rectangle other = it.next();
+                    if (other.intersects(current)) {
+                        current = current.union(other);
+                        it.remove();
+                        grew = true;
+                    }
+                }
+            }
+            merged.add(current);
+        }
+
+        long damaged = 0;
+        for (Rectangle region : merged) {
+            damaged += (long) region.width * region.height;
+        }
+        if (damaged > area.getWidth() * area.getHeight() * FULL_REPAINT_RATIO) {
+            return List.of(new Rectangle(area));
+        }
+        return merged;
+    }
+}
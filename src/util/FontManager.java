@@ -13,7 +13,7 @@ public class FontManager {
     private static boolean thaiFontLoaded = false;
     private static boolean englishFontLoaded = false;
     
-    public static Font loadThaiFont() {
+    public static synchronized Font loadThaiFont() {
         if (thaiFontLoaded && thaiFont != null) {
             return thaiFont;
         }
@@ -43,7 +43,7 @@ public class FontManager {
         }
     }
     
-    public static Font loadEnglishFont() {
+    public static synchronized Font loadEnglishFont() {
         if (englishFontLoaded && englishFont != null) {
             return englishFont;
         }
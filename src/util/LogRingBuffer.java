@@ -0,0 +1,41 @@
+package util;
+
+import java.util.function.LongConsumer;
+
+public class LogRingBuffer {
+    public interface Reader {
+        void accept(long timestamp, String message);
+    }
+
+    private final long[] timestamps;
+    private final String[] messages;
+    private long written = 0;
+
+    public LogRingBuffer(int capacity) {
+        this.timestamps = new long[capacity];
+        this.messages = new String[capacity];
+    }
+
+    public synchronized void add(String message) {
+        int index = (int) (written % messages.length);
+        timestamps[index] = System.currentTimeMillis();
+        messages[index] = message;
+        written++;
+    }
+
+    public synchronized long getWritten() {
+        return written;
+    }
+
+    public synchronized long readSince(long cursor, LongConsumer skipped, Reader reader) {
+        long start = Math.max(cursor, written - messages.length);
+        if (start > cursor) {
+            skipped.accept(start - cursor);
+        }
+        for (long seq = start; seq < written; seq++) {
+            int index = (int) (seq % messages.length);
+            reader.accept(timestamps[index], messages[index]);
+        }
+        return written;
+    }
+}
@@ -4,30 +4,96 @@ import core.GameConfig;
 import core.Debug;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.sound.sampled.*;
 
 public class SoundPlayer {
+    private static final Map<String, ClipPool> pools = new ConcurrentHashMap<>();
+
     private long lastPlayTime = 0;
 
     public SoundPlayer() {
     }
 
+    public static void preload(String filePath) {
+        getPool(filePath);
+    }
+
+    public static void releaseAll() {
+        for (ClipPool pool : pools.values()) {
+            pool.close();
+        }
+        pools.clear();
+    }
+
     public void play(String filePath) {
         long currentTime = System.currentTimeMillis();
         if (currentTime - lastPlayTime < GameConfig.Sound.MIN_PLAY_INTERVAL) {
             return;
         }
-        
-        try {
-            File soundFile = new File(filePath);
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(soundFile);
-            Clip clip = AudioSystem.getClip();
-            clip.open(audioStream);
+
+        getPool(filePath).play();
+        lastPlayTime = currentTime;
+    }
+
+    private static ClipPool getPool(String filePath) {
+        return pools.computeIfAbsent(Paths.get(filePath).normalize().toString(), ClipPool::new);
+    }
+
+    private static class ClipPool {
+        private final Clip[] clips;
+        private int next = 0;
+
+        ClipPool(String filePath) {
+            Clip[] opened = new Clip[0];
+            try (AudioInputStream audioStream = AudioSystem.getAudioInputStream(new File(filePath))) {
+                AudioFormat format = audioStream.getFormat();
+                byte[] data = audioStream.readAllBytes();
+                opened = new Clip[GameConfig.Sound.CLIP_POOL_SIZE];
+                for (int i = 0; i < opened.length; i++) {
+                    opened[i] = AudioSystem.getClip();
+                    opened[i].open(format, data, 0, data.length);
+                }
+            } catch (UnsupportedAudioFileException | IOException | LineUnavailableException | IllegalArgumentException e) {
+                Debug.error("Failed to load sound: " + filePath, e);
+                for (Clip clip : opened) {
+                    if (clip != null) {
+                        clip.close();
+                    }
+                }
+                opened = new Clip[0];
+            }
+            this.clips = opened;
+        }
+
+        synchronized void play() {
+            if (clips.length == 0) return;
+
+            for (int i = 0; i < clips.length; i++) {
+                int index = (next + i) % clips.length;
+                if (!clips[index].isRunning()) {
+                    next = (index + 1) % clips.length;
+                    start(clips[index]);
+                    return;
+                }
+            }
+            Clip oldest = clips[next];
+            next = (next + 1) % clips.length;
+            oldest.stop();
+            start(oldest);
+        }
+
+        synchronized void close() {
+            for (Clip clip : clips) {
+                clip.close();
+            }
+        }
+
+        private void start(Clip clip) {
             clip.setFramePosition(0);
             clip.start();
-            lastPlayTime = currentTime;
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            Debug.error("Failed to play sound: " + filePath, e);
         }
     }
 }
@@ -0,0 +1,127 @@
+package util;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SpatialGrid<T> {
+    private final int cellSize;
+    private final Map<Long, List<Entry<T>>> cells = new HashMap<>();
+    private int minCellX = Integer.MAX_VALUE;
+    private int minCellY = Integer.MAX_VALUE;
+    private int maxCellX = Integer.MIN_VALUE;
+    private int maxCellY = Integer.MIN_VALUE;
+    private int size = 0;
+
+    private static class Entry<T> {
+        final T item;
+        final Rectangle bounds;
+        final int order;
+
+        Entry(T item, Rectangle bounds, int order) {
+            this.item = item;
+            this.bounds = bounds;
+            this.order = order;
+        }
+    }
+
+    public SpatialGrid(int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    public void insert(T item, Point point) {
+        insert(item, new Rectangle(point.x, point.y, 0, 0));
+    }
+
+    public void insert(T item, Rectangle bounds) {
+        Entry<T> entry = new Entry<>(item, new Rectangle(bounds), size);
+        int x0 = cellOf(bounds.x);
+        int y0 = cellOf(bounds.y);
+        int x1 = cellOf(bounds.x + Math.max(0, bounds.width - 1));
+        int y1 = cellOf(bounds.y + Math.max(0, bounds.height - 1));
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                cells.computeIfAbsent(key(cx, cy), k -> new ArrayList<>()).add(entry);
+            }
+        }
+        minCellX = Math.min(minCellX, x0);
+        minCellY = Math.min(minCellY, y0);
+        maxCellX = Math.max(maxCellX, x1);
+        maxCellY = Math.max(maxCellY, y1);
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public List<T> query(Point point) {
+        List<Entry<T>> cell = cells.get(key(cellOf(point.x), cellOf(point.y)));
+        if (cell == null) {
+            return List.of();
+        }
+        List<T> result = new ArrayList<>(2);
+        for (Entry<T> entry : cell) {
+            if (entry.bounds.contains(point)) {
+                result.add(entry.item);
+            }
+        }
+        return result;
+    }
+
+    public T findNearest(Point point) {
+        if (size == 0) {
+            return null;
+        }
+
+        int cx = cellOf(point.x);
+        int cy = cellOf(point.y);
+        int maxRing = Math.max(Math.max(Math.abs(cx - minCellX), Math.abs(cx - maxCellX)),
+                Math.max(Math.abs(cy - minCellY), Math.abs(cy - maxCellY)));
+
+        Entry<T> nearest = null;
+        double best = Double.MAX_VALUE;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int y = Math.max(cy - ring, minCellY); y <= Math.min(cy + ring, maxCellY); y++) {
+                boolean edgeRow = y == cy - ring || y == cy + ring;
+                for (int x = cx - ring; x <= cx + ring; x += edgeRow || ring == 0 ? 1 : 2 * ring) {
+                    if (x < minCellX || x > maxCellX) continue;
+                    List<Entry<T>> cell = cells.get(key(x, y));
+                    if (cell == null) continue;
+                    for (Entry<T> entry : cell) {
+                        double distance = distanceSq(entry.bounds, point);
+                        if (distance < best || (distance == best && entry.order < nearest.order)) {
+                            best = distance;
+                            nearest = entry;
+                        }
+                    }
+                }
+            }
+            double reach = (double) ring * cellSize;
+            if (best <= reach * reach) {
+                break;
+            }
+        }
+        return nearest.item;
+    }
+
+    private static double distanceSq(Rectangle bounds, Point point) {
+        double dx = Math.max(Math.max(bounds.x - point.x, 0), point.x - (bounds.x + bounds.width));
+        double dy = Math.max(Math.max(bounds.y - point.y, 0), point.y - (bounds.y + bounds.height));
+        return dx * dx + dy * dy;
+    }
+
+    private int cellOf(int coordinate) {
+        return Math.floorDiv(coordinate, cellSize);
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+}
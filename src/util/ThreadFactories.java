@@ -0,0 +1,54 @@
+package util;
+
+import core.Debug;
+import core.GameConfig;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+public class ThreadFactories {
+    public enum Mode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    public static Mode defaultMode() {
+        String mode = System.getProperty("game.threads");
+        if (mode != null) {
+            try {
+                return Mode.valueOf(mode.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                Debug.warning("Unknown thread mode '" + mode + "', using " + GameConfig.Network.THREAD_MODE);
+            }
+        }
+        return GameConfig.Network.THREAD_MODE;
+    }
+
+    public static ThreadFactory named(String name) {
+        return named(defaultMode(), name);
+    }
+
+    public static ThreadFactory named(Mode mode, String name) {
+        return mode == Mode.VIRTUAL
+                ? Thread.ofVirtual().name(name).factory()
+                : Thread.ofPlatform().name(name).factory();
+    }
+
+    public static ThreadFactory numbered(Mode mode, String prefix) {
+        return mode == Mode.VIRTUAL
+                ? Thread.ofVirtual().name(prefix, 0).factory()
+                : Thread.ofPlatform().name(prefix, 0).factory();
+    }
+
+    public static Thread start(String name, Runnable task) {
+        Thread thread = named(name).newThread(task);
+        thread.start();
+        return thread;
+    }
+
+    public static ExecutorService newPerTaskExecutor(Mode mode, String prefix) {
+        return mode == Mode.VIRTUAL
+                ? Executors.newThreadPerTaskExecutor(numbered(mode, prefix))
+                : Executors.newCachedThreadPool(numbered(mode, prefix));
+    }
+}
@@ -0,0 +1,96 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TimingWheel<K> {
+    private final long tickMillis;
+    private final List<List<Entry<K>>> slots;
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private long currentTick;
+
+    private static class Entry<K> {
+        final K key;
+        long deadline;
+        long scheduledTick;
+        boolean cancelled;
+
+        Entry(K key, long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+        }
+    }
+
+    public TimingWheel(long tickMillis, int slotCount, long now) {
+        if (tickMillis <= 0 || slotCount <= 0) {
+            throw new IllegalArgumentException("Invalid wheel: tick " + tickMillis + "ms, " + slotCount + " slots");
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.currentTick = now / tickMillis;
+    }
+
+    public synchronized void touch(K key, long deadline) {
+        Entry<K> entry = entries.get(key);
+        if (entry != null) {
+            if (slotFor(deadline) >= entry.scheduledTick) {
+                entry.deadline = deadline;
+                return;
+            }
+            entry.cancelled = true;
+        }
+        entry = new Entry<>(key, deadline);
+        entries.put(key, entry);
+        schedule(entry);
+    }
+
+    public synchronized void cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry != null) {
+            entry.cancelled = true;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized List<K> advance(long now) {
+        List<K> expired = new ArrayList<>();
+        long targetTick = now / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            List<Entry<K>> slot = slots.get((int) (currentTick % slots.size()));
+            if (slot.isEmpty()) continue;
+
+            List<Entry<K>> due = new ArrayList<>(slot);
+            slot.clear();
+            for (Entry<K> entry : due) {
+                if (entry.cancelled) continue;
+                if (entry.scheduledTick > currentTick) {
+                    slot.add(entry);
+                } else if (entry.deadline <= now) {
+                    entries.remove(entry.key);
+                    expired.add(entry.key);
+                } else {
+                    schedule(entry);
+                }
+            }
+        }
+        return expired;
+    }
+
+    private void schedule(Entry<K> entry) {
+        entry.scheduledTick = slotFor(entry.deadline);
+        slots.get((int) (entry.scheduledTick % slots.size())).add(entry);
+    }
+
+    private long slotFor(long deadline) {
+        return Math.max(currentTick + 1, Math.floorDiv(deadline + tickMillis - 1, tickMillis));
+    }
+}